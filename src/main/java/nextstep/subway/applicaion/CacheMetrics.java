@@ -0,0 +1,44 @@
+package nextstep.subway.applicaion;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.List;
+import java.util.stream.Collectors;
+import nextstep.subway.applicaion.dto.CacheStatsResponse;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스프링 캐시별 크기와 적중 / 실패 / 적재 / 제거 수. graph 캐시는 직접 채우므로 그래프 생성 횟수는 GraphRebuilder 통계에 있다.
+ */
+@Component
+public class CacheMetrics {
+
+    private final CaffeineCacheManager cacheManager;
+
+    public CacheMetrics(final CaffeineCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public List<CacheStatsResponse> stats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::statsOf)
+                .collect(Collectors.toList());
+    }
+
+    private CacheStatsResponse statsOf(final String name) {
+        Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(
+                name,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.loadCount(),
+                stats.evictionCount()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.applicaion;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import nextstep.subway.applicaion.dto.EntityCacheStatsResponse;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Station;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * 역, 노선 2차 캐시 영역의 적중 / 실패 / 저장 수. 실패는 데이터베이스에서 읽은 횟수이다.
+ */
+@Component
+public class EntityCacheMetrics {
+    private static final List<String> REGIONS = List.of(Station.CACHE_REGION, Line.CACHE_REGION);
+
+    private final Statistics statistics;
+
+    public EntityCacheMetrics(final EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public List<EntityCacheStatsResponse> stats() {
+        return REGIONS.stream()
+                .map(this::statsOf)
+                .collect(Collectors.toList());
+    }
+
+    private EntityCacheStatsResponse statsOf(final String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return new EntityCacheStatsResponse(
+                region,
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount()
+        );
+    }
+}
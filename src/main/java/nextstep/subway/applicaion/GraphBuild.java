@@ -0,0 +1,49 @@
+package nextstep.subway.applicaion;
+
+/**
+ * 데이터베이스에서 경로 그래프를 한 번 다시 만든 기록. graph 캐시의 값이며, 그래프를 담지 않으므로 크기는 그래프와 무관하다.
+ * 항목이 없을 때만 그래프를 다시 만들고, 항목은 만료되지 않는다. 이후 구간 변경은 그래프에 바로 반영되므로 version 은 만들 당시의 스냅샷 버전이다.
+ */
+public class GraphBuild {
+    public static final String CACHE_NAME = "graph";
+
+    private final long version;
+    private final int stations;
+    private final int sections;
+    private final long elapsedMillis;
+    private final long peakHeapBytes;
+
+    public GraphBuild(
+            final long version,
+            final int stations,
+            final int sections,
+            final long elapsedMillis,
+            final long peakHeapBytes
+    ) {
+        this.version = version;
+        this.stations = stations;
+        this.sections = sections;
+        this.elapsedMillis = elapsedMillis;
+        this.peakHeapBytes = peakHeapBytes;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getStations() {
+        return stations;
+    }
+
+    public int getSections() {
+        return sections;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+}
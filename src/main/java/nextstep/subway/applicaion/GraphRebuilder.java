@@ -0,0 +1,99 @@
+package nextstep.subway.applicaion;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import nextstep.subway.applicaion.dto.GraphRebuildStatsResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그래프 전체 생성을 한 번에 하나만 실행한다(single-flight). 생성 중에 들어온 호출은 새로 만들지 않고 진행 중인 생성이 끝나기를 같이 기다린다.
+ * 그래프가 이미 있으면 PathFinderService 가 graph 캐시에서 바로 돌려주므로, 경로 조회가 여기서 기다리는 것은 그래프를 처음 만들 때뿐이다.
+ */
+@Component
+public class GraphRebuilder {
+
+    private final AtomicReference<Flight> inFlight = new AtomicReference<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+
+    public GraphBuild rebuild(final Supplier<GraphBuild> builder) {
+        return rebuild(builder, Long.MIN_VALUE);
+    }
+
+    /**
+     * 이 호출 전에 시작한 생성은 방금 커밋된 변경을 읽지 못했을 수 있으므로, 끝나기를 기다린 뒤 새로 만들거나 이후에 시작한 생성에 합류한다.
+     */
+    public GraphBuild rebuildAfterNow(final Supplier<GraphBuild> builder) {
+        return rebuild(builder, sequence.get());
+    }
+
+    public GraphRebuildStatsResponse stats() {
+        return new GraphRebuildStatsResponse(builds.sum(), waited.sum());
+    }
+
+    private GraphBuild rebuild(final Supplier<GraphBuild> builder, final long startedAfter) {
+        while (true) {
+            Flight running = inFlight.get();
+            if (running == null) {
+                Flight flight = new Flight(sequence.incrementAndGet());
+                if (inFlight.compareAndSet(null, flight)) {
+                    return lead(flight, builder);
+                }
+                continue;
+            }
+            if (running.sequence <= startedAfter) {
+                running.await();
+                continue;
+            }
+            waited.increment();
+            return running.join();
+        }
+    }
+
+    private GraphBuild lead(final Flight flight, final Supplier<GraphBuild> builder) {
+        builds.increment();
+        try {
+            GraphBuild build = builder.get();
+            flight.result.complete(build);
+            return build;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.compareAndSet(flight, null);
+        }
+    }
+
+    private static final class Flight {
+        private final long sequence;
+        private final CompletableFuture<GraphBuild> result = new CompletableFuture<>();
+
+        private Flight(final long sequence) {
+            this.sequence = sequence;
+        }
+
+        /**
+         * 같이 기다린 호출도 생성에 실패한 예외를 그대로 받는다.
+         */
+        private GraphBuild join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        private void await() {
+            result.handle((build, e) -> build).join();
+        }
+    }
+}
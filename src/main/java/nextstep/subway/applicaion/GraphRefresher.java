@@ -0,0 +1,107 @@
+package nextstep.subway.applicaion;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * subway.path.refresh.mode=background 이면 변경은 그래프를 dirty 로만 표시하고, 전용 스레드가 그래프를 다시 만든다.
+ * 마지막 변경 후 debounce 동안 변경이 없을 때 한 번 만들되, 첫 변경 후 max-staleness 가 지나면 변경이 이어져도 만든다.
+ * 다시 만드는 동안 경로 조회는 이전 스냅샷을 그대로 쓴다.
+ */
+@Component
+public class GraphRefresher implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(GraphRefresher.class);
+    private static final String BACKGROUND = "background";
+
+    private final PathFinderService pathFinderService;
+    private final long debounceNanos;
+    private final long maxStalenessNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private boolean dirty;
+    private long dirtySince;
+    private long lastChangedAt;
+    private int changes;
+    private ScheduledFuture<?> scheduled;
+
+    public GraphRefresher(
+            final PathFinderService pathFinderService,
+            @Value("${subway.path.refresh.mode:incremental}") final String mode,
+            @Value("${subway.path.refresh.debounce:200ms}") final Duration debounce,
+            @Value("${subway.path.refresh.max-staleness:2s}") final Duration maxStaleness
+    ) {
+        this.pathFinderService = pathFinderService;
+        this.debounceNanos = debounce.toNanos();
+        this.maxStalenessNanos = Math.max(maxStaleness.toNanos(), debounceNanos);
+        this.scheduler = BACKGROUND.equalsIgnoreCase(mode) ? newScheduler() : null;
+    }
+
+    public boolean isEnabled() {
+        return scheduler != null;
+    }
+
+    public synchronized void markDirty() {
+        long now = System.nanoTime();
+        if (!dirty) {
+            dirty = true;
+            dirtySince = now;
+        }
+        lastChangedAt = now;
+        changes++;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        long due = Math.min(lastChangedAt + debounceNanos, dirtySince + maxStalenessNanos);
+        scheduled = scheduler.schedule(this::refresh, Math.max(due - now, 0), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 다시 만들기 전에 dirty 를 지우므로, 만드는 동안 커밋된 변경은 다음 갱신으로 넘어간다.
+     * 실패하면 이전 스냅샷을 계속 쓰고 다시 dirty 로 표시해 재시도한다.
+     */
+    private void refresh() {
+        int refreshed;
+        long staleMillis;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            refreshed = changes;
+            staleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - dirtySince);
+            dirty = false;
+            changes = 0;
+            scheduled = null;
+        }
+        try {
+            GraphBuild build = pathFinderService.reloadGraph();
+            logger.info("경로 그래프 백그라운드 갱신: 변경 {} 건, 버전 {}, 갱신 전 지연 {} ms",
+                    refreshed, build.getVersion(), staleMillis);
+        } catch (RuntimeException e) {
+            logger.warn("경로 그래프 백그라운드 갱신에 실패했습니다. 이전 스냅샷을 계속 사용합니다.", e);
+            markDirty();
+        }
+    }
+
+    private ScheduledExecutorService newScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "graph-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
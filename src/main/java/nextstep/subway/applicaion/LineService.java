@@ -1,33 +1,49 @@
 package nextstep.subway.applicaion;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
 import nextstep.subway.applicaion.dto.SectionRequest;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.PartialSections;
+import nextstep.subway.domain.PositionShifter;
 import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.SectionsChangedEvent;
 import nextstep.subway.domain.Station;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
 public class LineService {
+    private static final int SECTIONS_BATCH_SIZE_MAX = 2_000;
+
     private final LineRepository lineRepository;
+    private final SectionRepository sectionRepository;
     private final StationService stationService;
     private final LineMapper lineMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public LineService(
             final LineRepository lineRepository,
+            final SectionRepository sectionRepository,
             final StationService stationService,
-            final LineMapper lineMapper
+            final LineMapper lineMapper,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.lineRepository = lineRepository;
+        this.sectionRepository = sectionRepository;
         this.stationService = stationService;
         this.lineMapper = lineMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     public Line findLineById(final long lineId) {
@@ -42,10 +58,14 @@ public class LineService {
     }
 
     public LineResponse findById(Long id) {
-        return lineMapper.toResponseFrom(findLineById(id));
+        return lineMapper.toResponseFrom(findLineWithSectionsById(id));
+    }
+
+    private Line findLineWithSectionsById(final long lineId) {
+        return lineRepository.findWithSectionsById(lineId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 노선입니다."));
     }
 
-    @CacheEvict(value = "graph", allEntries = true)
     @Transactional
     public LineResponse saveLine(LineRequest request) {
         Line line = lineRepository.save(new Line(request.getName(), request.getColor()));
@@ -54,6 +74,7 @@ public class LineService {
             Station downStation = stationService.findById(request.getDownStationId());
             line.addSection(new Section(line, upStation, downStation, request.getDistance()));
         }
+        publishEvents(line);
         return lineMapper.toResponseFrom(line);
     }
 
@@ -63,26 +84,86 @@ public class LineService {
         line.update(lineRequest.getName(), lineRequest.getColor());
     }
 
-    @CacheEvict(value = "graph", allEntries = true)
+    /**
+     * 노선의 구간 전체를 읽지 않고, 추가할 구간의 두 역에 닿은 구간만 읽어 고친다.
+     */
     @Transactional
     public void addSection(Long lineId, SectionRequest sectionRequest) {
         Station upStation = stationService.findById(sectionRequest.getUpStationId());
         Station downStation = stationService.findById(sectionRequest.getDownStationId());
         Line line = findLineById(lineId);
-        line.addSection(new Section(line, upStation, downStation, sectionRequest.getDistance()));
+        PartialSections sections = findPartialSectionsBy(lineId, List.of(upStation, downStation));
+        Section section = new Section(line, upStation, downStation, sectionRequest.getDistance());
+        applyChange(sections.add(section, positionShifterOf(lineId)));
+    }
+
+    /**
+     * 구간들을 요청 순서대로 한 번에 추가한다. 역은 한 번의 조회로 읽고, 경로 그래프에는 변경을 묶어 한 번만 알린다.
+     */
+    @Transactional
+    public void addSections(Long lineId, List<SectionRequest> sectionRequests) {
+        validateSectionsBatchSize(sectionRequests);
+        Map<Long, Station> stations = stationService.findAllById(stationIdsOf(sectionRequests));
+        Line line = findLineWithSectionsById(lineId);
+        line.addSections(sectionRequests.stream()
+                .map(request -> new Section(
+                        line,
+                        stations.get(request.getUpStationId()),
+                        stations.get(request.getDownStationId()),
+                        request.getDistance()
+                ))
+                .collect(Collectors.toList()));
+        eventPublisher.publishEvent(SectionsChangedEvent.combined(line.pullEvents()));
     }
 
-    @CacheEvict(value = "graph", allEntries = true)
     @Transactional
     public void deleteLine(Long id) {
-        lineRepository.deleteById(id);
+        Line line = findLineWithSectionsById(id);
+        line.clearSections();
+        publishEvents(line);
+        lineRepository.delete(line);
     }
 
-    @CacheEvict(value = "graph", allEntries = true)
+    /**
+     * 노선의 구간 전체를 읽지 않고, 제거할 역에 닿은 구간만 읽어 고친다.
+     */
     @Transactional
     public void deleteSection(Long lineId, Long stationId) {
-        Line line = findLineById(lineId);
+        findLineById(lineId);
         Station station = stationService.findById(stationId);
-        line.removeSection(station);
+        PartialSections sections = findPartialSectionsBy(lineId, List.of(station));
+        applyChange(sections.remove(station));
+    }
+
+    private void validateSectionsBatchSize(final List<SectionRequest> sectionRequests) {
+        if (sectionRequests == null || sectionRequests.isEmpty() || sectionRequests.size() > SECTIONS_BATCH_SIZE_MAX) {
+            throw new IllegalArgumentException("한 번에 추가할 수 있는 구간은 1개 이상 " + SECTIONS_BATCH_SIZE_MAX + "개 이하입니다.");
+        }
+    }
+
+    private Set<Long> stationIdsOf(final List<SectionRequest> sectionRequests) {
+        return sectionRequests.stream()
+                .flatMap(request -> Stream.of(request.getUpStationId(), request.getDownStationId()))
+                .collect(Collectors.toSet());
+    }
+
+    private PartialSections findPartialSectionsBy(final Long lineId, final List<Station> stations) {
+        Set<Section> sections = new LinkedHashSet<>(sectionRepository.findAllByLineIdAndUpStationIn(lineId, stations));
+        sections.addAll(sectionRepository.findAllByLineIdAndDownStationIn(lineId, stations));
+        return new PartialSections(sectionRepository.countByLineId(lineId), List.copyOf(sections));
+    }
+
+    private PositionShifter positionShifterOf(final Long lineId) {
+        return (from, offset) -> sectionRepository.shiftPositions(lineId, from, offset);
+    }
+
+    private void applyChange(final SectionsChangedEvent event) {
+        sectionRepository.deleteAll(event.getRemoved());
+        sectionRepository.saveAll(event.getUpserted());
+        eventPublisher.publishEvent(event);
+    }
+
+    private void publishEvents(final Line line) {
+        line.pullEvents().forEach(eventPublisher::publishEvent);
     }
 }
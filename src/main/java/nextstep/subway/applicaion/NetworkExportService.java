@@ -0,0 +1,70 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.LineSectionRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 노선과 정렬된 역을 노선 하나당 한 줄의 JSON 으로 내보낸다.
+ * 행은 노선, position 순서로 커서에서 읽으므로 메모리에는 지금 쓰는 노선 하나만 남고, 노선을 다 쓸 때마다 flush 한다.
+ */
+@Service
+public class NetworkExportService {
+    private static final int NEW_LINE = '\n';
+
+    private final LineRepository lineRepository;
+    private final ObjectWriter lineWriter;
+
+    public NetworkExportService(final LineRepository lineRepository, final ObjectMapper objectMapper) {
+        this.lineRepository = lineRepository;
+        this.lineWriter = objectMapper.writerFor(LineResponse.class);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportNetwork(final OutputStream output) throws IOException {
+        try (Stream<LineSectionRow> rows = lineRepository.streamAllLineSections()) {
+            Iterator<LineSectionRow> iterator = rows.iterator();
+            LineSectionRow previous = null;
+            List<StationResponse> stations = new ArrayList<>();
+            while (iterator.hasNext()) {
+                LineSectionRow row = iterator.next();
+                if (previous == null || !previous.getLineId().equals(row.getLineId())) {
+                    write(output, previous, stations);
+                    stations = new ArrayList<>();
+                    addStation(stations, row.getUpStationId(), row.getUpStationName());
+                }
+                addStation(stations, row.getDownStationId(), row.getDownStationName());
+                previous = row;
+            }
+            write(output, previous, stations);
+        }
+    }
+
+    private void addStation(final List<StationResponse> stations, final Long id, final String name) {
+        if (id != null) {
+            stations.add(new StationResponse(id, name));
+        }
+    }
+
+    private void write(final OutputStream output, final LineSectionRow line, final List<StationResponse> stations)
+            throws IOException {
+        if (line == null) {
+            return;
+        }
+        output.write(lineWriter.writeValueAsBytes(
+                new LineResponse(line.getLineId(), line.getLineName(), line.getLineColor(), stations)));
+        output.write(NEW_LINE);
+        output.flush();
+    }
+}
@@ -0,0 +1,287 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import nextstep.subway.applicaion.dto.NetworkRecord;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Sections;
+import nextstep.subway.domain.Station;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * NDJSON 노선도 파일을 한 줄씩 읽어 저장한다. 역과 노선은 읽는 대로 저장하고, 구간은 노선별로 역 id 와 거리만 모아 둔다.
+ * 구간은 노선별로 이어서 적어야 하며, 다른 노선의 구간이 나오면 앞 노선의 구간이 모두 모인 것으로 본다.
+ * 다 모인 노선이 묶음만큼 쌓이면 노선마다 구간을 역으로 이어 붙인 순서로 놓고, Sections 규칙을 병렬로 검사해 역 순서를 정한 뒤 저장한다.
+ * 따라서 한 번에 들고 있는 구간은 파일 크기와 관계없이 한 묶음 분량이다.
+ * id 는 시퀀스에서 미리 할당받으므로 insert 가 JDBC batch 로 묶이고, 일정 개수마다 영속성 컨텍스트를 비운다.
+ * 하나라도 실패하면 전체를 되돌린다.
+ */
+@Service
+public class NetworkImportService {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkImportService.class);
+    private static final int FLUSH_SIZE = 1_000;
+    private static final int LINES_PER_CHUNK = 64;
+    private static final int SECTIONS_PER_CHUNK = 10_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int parallelism;
+
+    public NetworkImportService(
+            final ObjectMapper objectMapper,
+            final ApplicationEventPublisher eventPublisher,
+            @Value("${subway.import.parallelism:0}") final int parallelism
+    ) {
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Transactional
+    public NetworkImportResponse importNetwork(final InputStream input) {
+        long startedAt = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        NetworkImport networkImport = new NetworkImport(pool);
+        try (MappingIterator<NetworkRecord> records = objectMapper.readerFor(NetworkRecord.class).readValues(input)) {
+            while (records.hasNextValue()) {
+                int lineNumber = records.getParser().getTokenLocation().getLineNr();
+                networkImport.read(records.nextValue(), lineNumber);
+            }
+            networkImport.saveSections();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("노선도 파일 형식이 올바르지 않습니다. " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            pool.shutdown();
+        }
+        eventPublisher.publishEvent(new NetworkImportedEvent());
+
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+        long records = networkImport.stations + networkImport.lines + networkImport.sections;
+        long recordsPerSecond = records * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        logger.info("노선도 가져오기: 역 {}, 노선 {}, 구간 {}, {} ms, 초당 {} 건",
+                networkImport.stations, networkImport.lines, networkImport.sections,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), recordsPerSecond);
+        return new NetworkImportResponse(
+                networkImport.stations,
+                networkImport.lines,
+                networkImport.sections,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                recordsPerSecond
+        );
+    }
+
+    /**
+     * 한 번의 가져오기 동안의 상태. 파일 key 별 저장된 id 와, 노선별로 아직 저장하지 않은 구간을 들고 있다.
+     */
+    private class NetworkImport {
+        private final Map<String, Long> stationIds = new HashMap<>();
+        private final Map<String, Long> lineIds = new HashMap<>();
+        private final Map<Long, List<SectionRow>> sectionRows = new LinkedHashMap<>();
+        private final Set<Long> completedLineIds = new HashSet<>();
+        private final ForkJoinPool pool;
+        private Long currentLineId;
+        private long pendingSections;
+        private long stations;
+        private long lines;
+        private long sections;
+        private long unflushed;
+
+        private NetworkImport(final ForkJoinPool pool) {
+            this.pool = pool;
+        }
+
+        private void read(final NetworkRecord record, final int lineNumber) {
+            if (NetworkRecord.STATION.equals(record.getType())) {
+                Station station = new Station(required(record.getName(), "name", lineNumber));
+                persist(station);
+                putKey(stationIds, record.getKey(), station.getId(), lineNumber);
+                stations++;
+                return;
+            }
+            if (NetworkRecord.LINE.equals(record.getType())) {
+                Line line = new Line(required(record.getName(), "name", lineNumber), record.getColor());
+                persist(line);
+                putKey(lineIds, record.getKey(), line.getId(), lineNumber);
+                lines++;
+                return;
+            }
+            if (NetworkRecord.SECTION.equals(record.getType())) {
+                Long lineId = idOf(lineIds, record.getLine(), lineNumber);
+                if (!lineId.equals(currentLineId)) {
+                    startLine(lineId, record.getLine(), lineNumber);
+                }
+                sectionRows.computeIfAbsent(lineId, id -> new ArrayList<>())
+                        .add(new SectionRow(
+                                idOf(stationIds, record.getUpStation(), lineNumber),
+                                idOf(stationIds, record.getDownStation(), lineNumber),
+                                record.getDistance()
+                        ));
+                sections++;
+                pendingSections++;
+                return;
+            }
+            throw new IllegalArgumentException("알 수 없는 type 입니다. (" + lineNumber + "번째 줄) " + record.getType());
+        }
+
+        /**
+         * 앞 노선의 구간이 모두 모였으므로, 다 모인 노선이 한 묶음만큼 쌓였으면 먼저 저장한다.
+         * 이미 구간이 끝난 노선의 구간이 다시 나오면 앞에서 모은 구간으로 순서를 정할 수 없으므로 에러 처리한다.
+         */
+        private void startLine(final Long lineId, final String lineKey, final int lineNumber) {
+            if (completedLineIds.contains(lineId)) {
+                throw new IllegalArgumentException("구간은 노선별로 이어서 적어야 합니다. (" + lineNumber + "번째 줄) " + lineKey);
+            }
+            if (currentLineId != null) {
+                completedLineIds.add(currentLineId);
+            }
+            if (sectionRows.size() >= LINES_PER_CHUNK || pendingSections >= SECTIONS_PER_CHUNK) {
+                saveSections();
+            }
+            currentLineId = lineId;
+        }
+
+        /**
+         * 역 참조는 이 스레드에서만 만들고, 병렬 검사에서는 역이 같은 객체인지만 비교하므로 초기화하지 않는다.
+         * 묶음 안의 구간이 같은 역 참조를 써야 하므로 묶음을 다 저장한 뒤에만 영속성 컨텍스트를 비운다.
+         */
+        private void saveSections() {
+            entityManager.flush();
+            entityManager.clear();
+            List<List<Section>> chunk = toSections(new ArrayList<>(sectionRows.keySet()));
+            List<List<Section>> ordered = pool.submit(() -> chunk.parallelStream()
+                            .map(this::order)
+                            .collect(Collectors.toList()))
+                    .join();
+            ordered.forEach(lineSections -> lineSections.forEach(entityManager::persist));
+            entityManager.flush();
+            entityManager.clear();
+            pendingSections = 0;
+        }
+
+        private List<List<Section>> toSections(final List<Long> lineIds) {
+            Map<Long, Station> stationReferences = new HashMap<>();
+            return lineIds.stream()
+                    .map(lineId -> {
+                        Line line = entityManager.getReference(Line.class, lineId);
+                        return chain(sectionRows.remove(lineId)).stream()
+                                .map(row -> new Section(
+                                        line,
+                                        stationReferences.computeIfAbsent(row.upStationId, this::stationReferenceOf),
+                                        stationReferences.computeIfAbsent(row.downStationId, this::stationReferenceOf),
+                                        row.distance
+                                ))
+                                .collect(Collectors.toList());
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * 한 노선의 구간이 상행역과 하행역으로 한 줄로 이어지면 파일에 적힌 순서와 관계없이 상행 종점부터 이은 순서로 놓는다.
+         * 갈라지거나 같은 역에서 두 번 출발하는 등 한 줄로 이어지지 않으면, 기존 구간 사이에 넣는 구간일 수 있으므로 적힌 순서 그대로 Sections 규칙에 맡긴다.
+         */
+        private List<SectionRow> chain(final List<SectionRow> rows) {
+            Map<Long, SectionRow> rowsByUpStation = new HashMap<>();
+            Map<Long, SectionRow> rowsByDownStation = new HashMap<>();
+            for (SectionRow row : rows) {
+                if (rowsByUpStation.putIfAbsent(row.upStationId, row) != null
+                        || rowsByDownStation.putIfAbsent(row.downStationId, row) != null) {
+                    return rows;
+                }
+            }
+            SectionRow first = null;
+            for (SectionRow row : rows) {
+                if (rowsByDownStation.containsKey(row.upStationId)) {
+                    continue;
+                }
+                if (first != null) {
+                    return rows;
+                }
+                first = row;
+            }
+            List<SectionRow> chained = new ArrayList<>(rows.size());
+            for (SectionRow row = first; row != null; row = rowsByUpStation.get(row.downStationId)) {
+                chained.add(row);
+            }
+            return chained.size() == rows.size() ? chained : rows;
+        }
+
+        private Station stationReferenceOf(final Long stationId) {
+            return entityManager.getReference(Station.class, stationId);
+        }
+
+        private List<Section> order(final List<Section> lineSections) {
+            Sections ordered = new Sections();
+            ordered.addAll(lineSections);
+            return ordered.getSections();
+        }
+
+        private void persist(final Object entity) {
+            entityManager.persist(entity);
+            if (++unflushed % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        private String required(final String value, final String field, final int lineNumber) {
+            if (value == null) {
+                throw new IllegalArgumentException(field + " 이(가) 없습니다. (" + lineNumber + "번째 줄)");
+            }
+            return value;
+        }
+
+        private void putKey(final Map<String, Long> ids, final String key, final Long id, final int lineNumber) {
+            if (ids.putIfAbsent(required(key, "key", lineNumber), id) != null) {
+                throw new IllegalArgumentException("이미 사용된 key 입니다. (" + lineNumber + "번째 줄) " + key);
+            }
+        }
+
+        private Long idOf(final Map<String, Long> ids, final String key, final int lineNumber) {
+            Long id = ids.get(key);
+            if (id == null) {
+                throw new IllegalArgumentException("앞에서 정의되지 않은 key 입니다. (" + lineNumber + "번째 줄) " + key);
+            }
+            return id;
+        }
+    }
+
+    private static class SectionRow {
+        private final long upStationId;
+        private final long downStationId;
+        private final int distance;
+
+        private SectionRow(final long upStationId, final long downStationId, final int distance) {
+            this.upStationId = upStationId;
+            this.downStationId = downStationId;
+            this.distance = distance;
+        }
+    }
+}
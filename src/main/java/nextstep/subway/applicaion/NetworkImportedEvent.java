@@ -0,0 +1,7 @@
+package nextstep.subway.applicaion;
+
+/**
+ * 노선도 가져오기가 끝났음을 알린다. 바뀐 구간이 많으므로 경로 그래프는 변경분을 적용하지 않고 다시 읽는다.
+ */
+public class NetworkImportedEvent {
+}
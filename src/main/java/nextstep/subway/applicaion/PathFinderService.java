@@ -1,35 +1,149 @@
 package nextstep.subway.applicaion;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.util.List;
-import nextstep.subway.domain.Line;
-import nextstep.subway.domain.LineRepository;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import nextstep.subway.domain.GraphSnapshot;
+import nextstep.subway.domain.GraphSource;
 import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.SectionTuple;
 import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
 import nextstep.subway.domain.dto.PathDto;
-import org.springframework.cache.annotation.Cacheable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-@Transactional(readOnly = true)
 @Service
 public class PathFinderService {
+    private static final Logger logger = LoggerFactory.getLogger(PathFinderService.class);
+    private static final long MEGABYTE = 1024 * 1024;
 
     private final PathFinder pathFinder;
-    private final LineRepository lineRepository;
+    private final StationRepository stationRepository;
+    private final SectionRepository sectionRepository;
+    private final GraphRebuilder graphRebuilder;
+    private final Cache graphCache;
 
-    public PathFinderService(final PathFinder pathFinder, final LineRepository lineRepository) {
+    /**
+     * 처음 만들 때는 호출자의 트랜잭션이 있으면 참여해 호출자가 아직 커밋하지 않은 구간도 읽는다.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 커밋 이후의 reloadGraph 에서는 끝난 트랜잭션에 참여하지 않도록 새로 연다.
+     */
+    private final TransactionTemplate newReadOnlyTransaction;
+
+    public PathFinderService(
+            final PathFinder pathFinder,
+            final StationRepository stationRepository,
+            final SectionRepository sectionRepository,
+            final GraphRebuilder graphRebuilder,
+            final CacheManager cacheManager,
+            final PlatformTransactionManager transactionManager
+    ) {
         this.pathFinder = pathFinder;
-        this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.sectionRepository = sectionRepository;
+        this.graphRebuilder = graphRebuilder;
+        this.graphCache = cacheManager.getCache(GraphBuild.CACHE_NAME);
+        this.readOnlyTransaction = readOnlyTransaction(transactionManager, TransactionDefinition.PROPAGATION_REQUIRED);
+        this.newReadOnlyTransaction = readOnlyTransaction(transactionManager, TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    @Cacheable(cacheNames = "graph")
-    public void initGraph() {
-        List<Line> lines = lineRepository.findAll();
+    /**
+     * graph 캐시에 항목이 없을 때만 전체 구간을 읽는다. 이후 구간 변경은 PathGraphEventListener 가 그래프에 바로 반영한다.
+     * 캐시는 직접 읽고 쓴다. 처음 만드는 생성과 reloadGraph 의 생성이 같은 GraphRebuilder 에서 한 번에 하나만 실행되게 하기 위해서다.
+     * 다시 만드는 동안에도 캐시 항목은 남아 있으므로 경로 조회는 기다리지 않고 게시된 스냅샷을 쓴다.
+     */
+    public GraphBuild initGraph() {
+        GraphBuild cached = graphCache.get(SimpleKey.EMPTY, GraphBuild.class);
+        if (cached != null) {
+            return cached;
+        }
+        return graphRebuilder.rebuild(() -> buildGraph(readOnlyTransaction));
+    }
+
+    /**
+     * 노선도 가져오기가 커밋된 뒤에 불리므로 그 전에 시작한 생성에는 합류하지 않는다.
+     */
+    public GraphBuild reloadGraph() {
+        return graphRebuilder.rebuildAfterNow(() -> buildGraph(newReadOnlyTransaction));
+    }
 
-        pathFinder.init(lines);
+    public GraphSnapshot snapshot() {
+        return pathFinder.snapshot();
     }
 
     public PathDto find(final Station sourceStation, final Station targetStation) {
         return pathFinder.find(sourceStation, targetStation);
     }
+
+    public PathDto find(final GraphSnapshot snapshot, final Station sourceStation, final Station targetStation) {
+        return pathFinder.find(snapshot, sourceStation, targetStation);
+    }
+
+    private GraphBuild buildGraph(final TransactionTemplate transaction) {
+        GraphBuild build = transaction.execute(status -> loadGraph());
+        graphCache.put(SimpleKey.EMPTY, build);
+        return build;
+    }
+
+    /**
+     * 구간은 (구간 id, 상행역 id, 하행역 id, 거리) 값으로만 커서에서 읽고, 역은 id 와 이름만 읽는다.
+     * 엔티티를 만들지 않으므로 영속성 컨텍스트와 변경 감지 스냅샷이 생기지 않는다.
+     */
+    private GraphBuild loadGraph() {
+        List<MemoryPoolMXBean> heapPools = heapPools();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long startedAt = System.nanoTime();
+        GraphSource source = pathFinder.load(this::readGraphSource);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long peakHeap = heapPools.stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        logger.info("경로 그래프 생성: 역 {}, 구간 {}, {} ms, 최대 힙 {} MB",
+                source.stationSize(), source.size(), elapsedMillis, peakHeap / MEGABYTE);
+        return new GraphBuild(
+                pathFinder.snapshot().version(),
+                source.stationSize(),
+                source.size(),
+                elapsedMillis,
+                peakHeap
+        );
+    }
+
+    private GraphSource readGraphSource() {
+        try (Stream<SectionTuple> sections = sectionRepository.streamAllTuples()) {
+            return GraphSource.of(sections, stationRepository::findAllDetached);
+        }
+    }
+
+    private TransactionTemplate readOnlyTransaction(
+            final PlatformTransactionManager transactionManager,
+            final int propagationBehavior
+    ) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setPropagationBehavior(propagationBehavior);
+        return transaction;
+    }
+
+    private List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+    }
 }
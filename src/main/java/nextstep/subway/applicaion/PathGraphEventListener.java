@@ -0,0 +1,46 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.SectionsChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 구간 변경만 경로 그래프에 반영한다. 롤백된 변경은 그래프에 들어가지 않는다.
+ * 백그라운드 갱신을 켜면 변경을 바로 반영하지 않고 GraphRefresher 에 dirty 로만 알린다.
+ */
+@Component
+public class PathGraphEventListener {
+
+    private final PathFinder pathFinder;
+    private final PathFinderService pathFinderService;
+    private final GraphRefresher graphRefresher;
+
+    public PathGraphEventListener(
+            final PathFinder pathFinder,
+            final PathFinderService pathFinderService,
+            final GraphRefresher graphRefresher
+    ) {
+        this.pathFinder = pathFinder;
+        this.pathFinderService = pathFinderService;
+        this.graphRefresher = graphRefresher;
+    }
+
+    @TransactionalEventListener
+    public void handle(final SectionsChangedEvent event) {
+        if (graphRefresher.isEnabled()) {
+            graphRefresher.markDirty();
+            return;
+        }
+        pathFinder.update(event);
+    }
+
+    @TransactionalEventListener
+    public void handle(final NetworkImportedEvent event) {
+        if (graphRefresher.isEnabled()) {
+            graphRefresher.markDirty();
+            return;
+        }
+        pathFinderService.reloadGraph();
+    }
+}
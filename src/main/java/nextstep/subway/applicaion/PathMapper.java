@@ -1,7 +1,10 @@
 package nextstep.subway.applicaion;
 
 import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.ReachableStationResponse;
+import nextstep.subway.domain.Station;
 import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.domain.dto.ReachDto;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,4 +19,9 @@ public class PathMapper {
     public PathResponse toResponseFrom(final PathDto path) {
         return new PathResponse(stationMapper.toResponseFrom(path.getNodes()), path.getWeight());
     }
+
+    public ReachableStationResponse toResponseFrom(final ReachDto reach) {
+        Station station = reach.getStation();
+        return new ReachableStationResponse(station.getId(), station.getName(), reach.getDistance());
+    }
 }
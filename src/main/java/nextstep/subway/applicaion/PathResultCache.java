@@ -0,0 +1,137 @@
+package nextstep.subway.applicaion;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import nextstep.subway.applicaion.dto.PathCacheStatsResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * (작은 역 id, 큰 역 id, 그래프 버전) 별 경로 조회 결과 캐시. (a, b) 와 (b, a) 는 한 항목을 같이 쓴다.
+ * 더 높은 그래프 버전이 들어오면 이전 버전 항목을 모두 비운다.
+ * 크기를 넘으면 들어온 순서대로 내보내되, 그 사이 조회된 항목은 한 번 더 기회를 준다(second chance).
+ */
+@Component
+public class PathResultCache {
+
+    private final int maximumSize;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong currentVersion = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PathResultCache(@Value("${subway.path.cache.maximum-size:1000}") final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public PathResponse get(
+            final long source,
+            final long target,
+            final long version,
+            final Supplier<PathResponse> loader
+    ) {
+        advanceTo(version);
+        boolean forward = source <= target;
+        Key key = new Key(Math.min(source, target), Math.max(source, target), version);
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            entry.referenced = true;
+            return forward ? entry.value : entry.value.reverse();
+        }
+
+        misses.increment();
+        PathResponse loaded = loader.get();
+        put(key, forward ? loaded : loaded.reverse());
+        return loaded;
+    }
+
+    public PathCacheStatsResponse stats() {
+        return new PathCacheStatsResponse(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private void advanceTo(final long version) {
+        long previous = currentVersion.getAndAccumulate(version, Math::max);
+        if (previous < version) {
+            entries.keySet().removeIf(key -> key.version < version);
+            insertionOrder.removeIf(key -> key.version < version);
+        }
+    }
+
+    private void put(final Key key, final PathResponse value) {
+        if (key.version < currentVersion.get()) {
+            return;
+        }
+        if (entries.putIfAbsent(key, new Entry(value)) == null) {
+            insertionOrder.offer(key);
+            evictIfFull();
+        }
+    }
+
+    private void evictIfFull() {
+        while (entries.size() > maximumSize) {
+            Key oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            Entry entry = entries.get(oldest);
+            if (entry != null && entry.referenced) {
+                entry.referenced = false;
+                insertionOrder.offer(oldest);
+                continue;
+            }
+            if (entries.remove(oldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Key {
+        private final long smallerId;
+        private final long largerId;
+        private final long version;
+
+        private Key(final long smallerId, final long largerId, final long version) {
+            this.smallerId = smallerId;
+            this.largerId = largerId;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return smallerId == key.smallerId && largerId == key.largerId && version == key.version;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(smallerId, largerId, version);
+        }
+    }
+
+    private static final class Entry {
+        private final PathResponse value;
+        private volatile boolean referenced;
+
+        private Entry(final PathResponse value) {
+            this.value = value;
+        }
+    }
+}
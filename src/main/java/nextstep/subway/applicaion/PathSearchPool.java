@@ -0,0 +1,37 @@
+package nextstep.subway.applicaion;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 경로 탐색을 나눠 실행하는 전용 fork-join 풀. 공용 풀을 쓰지 않으므로 다른 병렬 스트림과 스레드를 나눠 쓰지 않는다.
+ */
+@Component
+public class PathSearchPool implements DisposableBean {
+
+    private final ForkJoinPool pool;
+
+    public PathSearchPool(@Value("${subway.path.search.parallelism:0}") final int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 요청 순서대로 결과를 모은다. 하나라도 실패하면 그 예외를 그대로 던진다.
+     */
+    public <T, R> List<R> map(final List<T> requests, final Function<T, R> search) {
+        return pool.submit(() -> requests.parallelStream()
+                        .map(search)
+                        .collect(Collectors.toList()))
+                .join();
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+}
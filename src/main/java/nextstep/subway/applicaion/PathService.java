@@ -1,36 +1,164 @@
 package nextstep.subway.applicaion;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import nextstep.subway.applicaion.dto.DistanceMatrixRequest;
+import nextstep.subway.applicaion.dto.DistanceMatrixResponse;
+import nextstep.subway.applicaion.dto.GraphVersioned;
+import nextstep.subway.applicaion.dto.PathCacheStatsResponse;
+import nextstep.subway.applicaion.dto.PathRequest;
 import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.ReachableStationResponse;
+import nextstep.subway.domain.GraphSnapshot;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.dto.PathDto;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-@Transactional(readOnly = true)
+/**
+ * 역은 StationService 나 그래프 스냅샷에서 읽으므로 이 서비스는 트랜잭션을 열지 않는다.
+ */
 @Service
 public class PathService {
+    private static final int BATCH_SIZE_MAX = 100;
+    private static final int MATRIX_SIZE_MAX = 500;
+
     private final StationService stationService;
     private final PathFinderService pathFinderService;
     private final PathMapper pathMapper;
+    private final PathResultCache pathResultCache;
+    private final PathSearchPool pathSearchPool;
 
     public PathService(
             final StationService stationService,
             final PathFinderService pathFinderService,
-            final PathMapper pathMapper
+            final PathMapper pathMapper,
+            final PathResultCache pathResultCache,
+            final PathSearchPool pathSearchPool
     ) {
         this.stationService = stationService;
         this.pathFinderService = pathFinderService;
         this.pathMapper = pathMapper;
+        this.pathResultCache = pathResultCache;
+        this.pathSearchPool = pathSearchPool;
+    }
+
+    /**
+     * 조회 전체에 하나의 그래프 스냅샷을 사용하고, 결과는 그 스냅샷 버전과 함께 캐시한다.
+     * 출발역과 도착역도 스냅샷에서 id 로 찾으므로 데이터베이스를 읽지 않는다.
+     */
+    public GraphVersioned<PathResponse> findPathBy(final long source, final long target) {
+        GraphSnapshot snapshot = currentSnapshot();
+        PathResponse path = pathResultCache.get(source, target, snapshot.version(), () -> findPath(
+                snapshot,
+                stationOf(snapshot, source),
+                stationOf(snapshot, target)
+        ));
+        return new GraphVersioned<>(snapshot.version(), path);
     }
 
-    public PathResponse findPathBy(final long source, final long target) {
+    /**
+     * 요청한 모든 역을 한 번에 읽고, 같은 그래프 스냅샷 위에서 경로를 병렬로 찾아 요청 순서대로 반환한다.
+     */
+    public GraphVersioned<List<PathResponse>> findPathsBy(final List<PathRequest> requests) {
+        validateBatchSize(requests);
+        Map<Long, Station> stations = stationService.findAllById(stationIdsOf(requests));
+        GraphSnapshot snapshot = currentSnapshot();
+        List<PathResponse> paths = pathSearchPool.map(requests, request -> pathResultCache.get(
+                request.getSource(),
+                request.getTarget(),
+                snapshot.version(),
+                () -> findPath(snapshot, stations.get(request.getSource()), stations.get(request.getTarget()))
+        ));
+        return new GraphVersioned<>(snapshot.version(), paths);
+    }
+
+    /**
+     * 출발역마다 한 번씩 탐색하여 모든 도착역까지의 거리만 구한다. 출발역별 탐색은 병렬로 실행한다.
+     */
+    public GraphVersioned<DistanceMatrixResponse> findDistanceMatrix(final DistanceMatrixRequest request) {
+        validateMatrixSize(request.getSources());
+        validateMatrixSize(request.getTargets());
+        Map<Long, Station> stations = stationService.findAllById(
+                Stream.concat(request.getSources().stream(), request.getTargets().stream())
+                        .collect(Collectors.toSet())
+        );
+        List<Station> targets = request.getTargets().stream()
+                .map(stations::get)
+                .collect(Collectors.toList());
+        GraphSnapshot snapshot = currentSnapshot();
+        List<List<Long>> distances = pathSearchPool.map(
+                request.getSources(),
+                source -> toDistanceRow(snapshot.distances(stations.get(source), targets))
+        );
+        return new GraphVersioned<>(
+                snapshot.version(),
+                new DistanceMatrixResponse(request.getSources(), request.getTargets(), distances)
+        );
+    }
+
+    /**
+     * 출발역에서 거리 distance 이하로 닿는 역을 가까운 순서로 반환한다.
+     */
+    public GraphVersioned<List<ReachableStationResponse>> findReachableStations(final long source, final int distance) {
+        if (distance < 0) {
+            throw new IllegalArgumentException("거리는 0 이상이어야 합니다.");
+        }
         Station sourceStation = stationService.findById(source);
-        Station targetStation = stationService.findById(target);
-        return pathMapper.toResponseFrom(findPath(sourceStation, targetStation));
+        GraphSnapshot snapshot = currentSnapshot();
+        List<ReachableStationResponse> reachable = snapshot.reachable(sourceStation, distance).stream()
+                .map(pathMapper::toResponseFrom)
+                .collect(Collectors.toList());
+        return new GraphVersioned<>(snapshot.version(), reachable);
+    }
+
+    public PathCacheStatsResponse cacheStats() {
+        return pathResultCache.stats();
     }
 
-    private PathDto findPath(final Station sourceStation, final Station targetStation) {
+    /**
+     * graph 캐시 항목이 없을 때, 즉 그래프를 아직 만들지 않았을 때만 그래프를 만들고, 그 외에는 게시된 스냅샷을 그대로 쓴다.
+     * 백그라운드 갱신 중에는 갱신 전 스냅샷이다.
+     */
+    private GraphSnapshot currentSnapshot() {
         pathFinderService.initGraph();
-        return pathFinderService.find(sourceStation, targetStation);
+        return pathFinderService.snapshot();
+    }
+
+    private Station stationOf(final GraphSnapshot snapshot, final long stationId) {
+        return snapshot.station(stationId)
+                .orElseThrow(() -> new IllegalArgumentException("경로 그래프에 존재하지 않는 역입니다."));
+    }
+
+    private PathResponse findPath(final GraphSnapshot snapshot, final Station source, final Station target) {
+        PathDto path = pathFinderService.find(snapshot, source, target);
+        return pathMapper.toResponseFrom(path);
+    }
+
+    private void validateBatchSize(final List<PathRequest> requests) {
+        if (requests.isEmpty() || requests.size() > BATCH_SIZE_MAX) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 경로는 1개 이상 " + BATCH_SIZE_MAX + "개 이하입니다.");
+        }
+    }
+
+    private void validateMatrixSize(final List<Long> stationIds) {
+        if (stationIds == null || stationIds.isEmpty() || stationIds.size() > MATRIX_SIZE_MAX) {
+            throw new IllegalArgumentException("거리 행렬의 출발역과 도착역은 각각 1개 이상 " + MATRIX_SIZE_MAX + "개 이하입니다.");
+        }
+    }
+
+    private List<Long> toDistanceRow(final double[] distances) {
+        return Arrays.stream(distances)
+                .mapToObj(distance -> Double.isInfinite(distance) ? null : Math.round(distance))
+                .collect(Collectors.toList());
+    }
+
+    private Set<Long> stationIdsOf(final List<PathRequest> requests) {
+        return requests.stream()
+                .flatMap(request -> Stream.of(request.getSource(), request.getTarget()))
+                .collect(Collectors.toSet());
     }
 }
@@ -1,6 +1,11 @@
 package nextstep.subway.applicaion;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
 import nextstep.subway.domain.Station;
@@ -24,6 +29,18 @@ public class StationService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역 입니다."));
     }
 
+    /**
+     * 여러 역을 한 번의 조회로 읽는다. 하나라도 없으면 예외 처리한다.
+     */
+    public Map<Long, Station> findAllById(final Collection<Long> ids) {
+        Map<Long, Station> stations = stationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (stations.size() != new HashSet<>(ids).size()) {
+            throw new IllegalArgumentException("존재하지 않는 역 입니다.");
+        }
+        return stations;
+    }
+
     public List<StationResponse> findAllStations() {
         return stationMapper.toResponseFrom(stationRepository.findAll());
     }
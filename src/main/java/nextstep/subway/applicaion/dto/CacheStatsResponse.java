@@ -0,0 +1,58 @@
+package nextstep.subway.applicaion.dto;
+
+public class CacheStatsResponse {
+
+    private String name;
+    private long size;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long loads;
+    private long evictions;
+
+    public CacheStatsResponse(
+            final String name,
+            final long size,
+            final long hits,
+            final long misses,
+            final double hitRate,
+            final long loads,
+            final long evictions
+    ) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hitRate;
+        this.loads = loads;
+        this.evictions = evictions;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public long getLoads() {
+        return loads;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+}
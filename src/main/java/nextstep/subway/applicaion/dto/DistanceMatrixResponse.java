@@ -0,0 +1,31 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class DistanceMatrixResponse {
+
+    private List<Long> sources;
+    private List<Long> targets;
+    private List<List<Long>> distances;
+
+    /**
+     * distances.get(i).get(j) 는 sources[i] 에서 targets[j] 까지의 거리이며, 갈 수 없으면 null 이다.
+     */
+    public DistanceMatrixResponse(final List<Long> sources, final List<Long> targets, final List<List<Long>> distances) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public List<List<Long>> getDistances() {
+        return distances;
+    }
+}
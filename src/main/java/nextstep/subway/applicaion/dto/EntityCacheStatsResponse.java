@@ -0,0 +1,38 @@
+package nextstep.subway.applicaion.dto;
+
+public class EntityCacheStatsResponse {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private double hitRate;
+
+    public EntityCacheStatsResponse(final String region, final long hits, final long misses, final long puts) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+        this.hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getPuts() {
+        return puts;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+}
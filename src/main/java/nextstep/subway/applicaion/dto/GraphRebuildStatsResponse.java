@@ -0,0 +1,20 @@
+package nextstep.subway.applicaion.dto;
+
+public class GraphRebuildStatsResponse {
+
+    private long builds;
+    private long waited;
+
+    public GraphRebuildStatsResponse(final long builds, final long waited) {
+        this.builds = builds;
+        this.waited = waited;
+    }
+
+    public long getBuilds() {
+        return builds;
+    }
+
+    public long getWaited() {
+        return waited;
+    }
+}
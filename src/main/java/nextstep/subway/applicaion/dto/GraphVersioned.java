@@ -0,0 +1,23 @@
+package nextstep.subway.applicaion.dto;
+
+/**
+ * 응답 본문과, 그 응답을 만드는 데 쓴 경로 그래프 스냅샷 버전.
+ */
+public class GraphVersioned<T> {
+
+    private final long version;
+    private final T body;
+
+    public GraphVersioned(final long version, final T body) {
+        this.version = version;
+        this.body = body;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public T getBody() {
+        return body;
+    }
+}
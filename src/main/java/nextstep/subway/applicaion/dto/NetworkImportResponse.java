@@ -0,0 +1,44 @@
+package nextstep.subway.applicaion.dto;
+
+public class NetworkImportResponse {
+
+    private long stations;
+    private long lines;
+    private long sections;
+    private long elapsedMillis;
+    private long recordsPerSecond;
+
+    public NetworkImportResponse(
+            final long stations,
+            final long lines,
+            final long sections,
+            final long elapsedMillis,
+            final long recordsPerSecond
+    ) {
+        this.stations = stations;
+        this.lines = lines;
+        this.sections = sections;
+        this.elapsedMillis = elapsedMillis;
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    public long getStations() {
+        return stations;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getSections() {
+        return sections;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+}
@@ -0,0 +1,57 @@
+package nextstep.subway.applicaion.dto;
+
+/**
+ * 노선도 가져오기 파일의 한 줄. type 에 따라 역(station), 노선(line), 구간(section) 중 하나를 나타낸다.
+ * key 는 파일 안에서만 쓰는 식별자이며, 구간은 앞에서 나온 역과 노선의 key 를 가리킨다.
+ * 한 노선의 구간이 한 줄로 이어지면 적는 순서는 자유롭다. 기존 구간 사이에 넣는 구간처럼 한 줄로 이어지지 않는 구간이 섞이면,
+ * 적힌 순서대로 노선에 구간을 추가하는 규칙을 따르므로 각 구간은 앞에서 추가한 구간의 역에 닿아야 한다.
+ */
+public class NetworkRecord {
+    public static final String STATION = "station";
+    public static final String LINE = "line";
+    public static final String SECTION = "section";
+
+    private String type;
+    private String key;
+    private String name;
+    private String color;
+    private String line;
+    private String upStation;
+    private String downStation;
+    private int distance;
+
+    private NetworkRecord() {
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getUpStation() {
+        return upStation;
+    }
+
+    public String getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,32 @@
+package nextstep.subway.applicaion.dto;
+
+public class PathCacheStatsResponse {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long size;
+
+    public PathCacheStatsResponse(final long hits, final long misses, final long evictions, final long size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,22 @@
+package nextstep.subway.applicaion.dto;
+
+public class PathRequest {
+    private Long source;
+    private Long target;
+
+    private PathRequest() {
+    }
+
+    public PathRequest(final Long source, final Long target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+}
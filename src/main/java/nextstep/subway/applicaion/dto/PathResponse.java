@@ -1,5 +1,7 @@
 package nextstep.subway.applicaion.dto;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class PathResponse {
@@ -12,6 +14,15 @@ public class PathResponse {
         this.distance = Math.round(distance);
     }
 
+    /**
+     * 구간은 양방향이므로 도착역에서 출발역으로 가는 최단 경로는 역 순서만 뒤집은 것이다.
+     */
+    public PathResponse reverse() {
+        List<StationResponse> reversed = new ArrayList<>(stations);
+        Collections.reverse(reversed);
+        return new PathResponse(reversed, distance);
+    }
+
     public List<StationResponse> getStations() {
         return stations;
     }
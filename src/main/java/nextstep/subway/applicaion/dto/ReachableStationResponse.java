@@ -0,0 +1,26 @@
+package nextstep.subway.applicaion.dto;
+
+public class ReachableStationResponse {
+
+    private Long id;
+    private String name;
+    private long distance;
+
+    public ReachableStationResponse(final Long id, final String name, final double distance) {
+        this.id = id;
+        this.name = name;
+        this.distance = Math.round(distance);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getDistance() {
+        return distance;
+    }
+}
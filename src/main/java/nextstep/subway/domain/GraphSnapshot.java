@@ -0,0 +1,32 @@
+package nextstep.subway.domain;
+
+import java.util.List;
+import java.util.Optional;
+import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.domain.dto.ReachDto;
+
+/**
+ * 한 시점에 게시된 경로 그래프. 구간이 바뀌면 버전이 올라간 새 스냅샷이 게시되고, 이미 꺼낸 스냅샷은 바뀌지 않는다.
+ */
+public interface GraphSnapshot {
+
+    long version();
+
+    /**
+     * 그래프에 있는 역을 id 로 찾는다. 데이터베이스를 읽지 않는다.
+     */
+    Optional<Station> station(final long stationId);
+
+    PathDto find(final Station source, final Station target);
+
+    /**
+     * 출발역 하나에서 각 도착역까지의 최단 거리를 targets 순서대로 반환한다. 경로는 만들지 않는다.
+     * 출발역이나 도착역이 그래프에 없거나 닿지 않으면 Double.POSITIVE_INFINITY 이다.
+     */
+    double[] distances(final Station source, final List<Station> targets);
+
+    /**
+     * 출발역에서 거리 budget 이하로 닿는 역을 가까운 순서로 반환한다. 출발역 자신은 거리 0 으로 포함된다.
+     */
+    List<ReachDto> reachable(final Station source, final int budget);
+}
@@ -0,0 +1,77 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 경로 그래프를 만드는 데 필요한 값만 담은 구간 목록. 구간 id, 양 끝 역 id, 거리를 기본형 배열로 들고 있고
+ * 역은 영속성 컨텍스트 밖에서 만든 id, 이름 값으로 찾는다.
+ */
+public final class GraphSource {
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private Map<Long, Station> stations;
+    private long[] sectionIds = new long[INITIAL_CAPACITY];
+    private long[] upStationIds = new long[INITIAL_CAPACITY];
+    private long[] downStationIds = new long[INITIAL_CAPACITY];
+    private int[] distances = new int[INITIAL_CAPACITY];
+    private int size;
+
+    private GraphSource() {
+    }
+
+    /**
+     * 구간을 다 읽은 뒤에 역을 읽는다. 구간이 가리키는 역은 구간보다 먼저 저장되므로 빠짐없이 찾을 수 있다.
+     */
+    public static GraphSource of(final Stream<SectionTuple> sections, final Supplier<List<Station>> stations) {
+        GraphSource source = new GraphSource();
+        sections.forEachOrdered(source::add);
+        source.stations = stations.get().stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        return source;
+    }
+
+    private void add(final SectionTuple section) {
+        if (size == sectionIds.length) {
+            int capacity = size * 2;
+            sectionIds = Arrays.copyOf(sectionIds, capacity);
+            upStationIds = Arrays.copyOf(upStationIds, capacity);
+            downStationIds = Arrays.copyOf(downStationIds, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+        }
+        sectionIds[size] = section.getId();
+        upStationIds[size] = section.getUpStationId();
+        downStationIds[size] = section.getDownStationId();
+        distances[size] = section.getDistance();
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int stationSize() {
+        return stations.size();
+    }
+
+    public long sectionId(final int index) {
+        return sectionIds[index];
+    }
+
+    public Station upStation(final int index) {
+        return stations.get(upStationIds[index]);
+    }
+
+    public Station downStation(final int index) {
+        return stations.get(downStationIds[index]);
+    }
+
+    public int distance(final int index) {
+        return distances[index];
+    }
+}
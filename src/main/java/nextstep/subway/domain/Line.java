@@ -1,16 +1,28 @@
 package nextstep.subway.domain;
 
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * 2차 캐시에는 노선의 이름, 색 같은 값만 들어가고 구간 목록은 들어가지 않는다.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Line.CACHE_REGION)
 public class Line {
+    public static final String CACHE_REGION = "line";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_sequence")
+    @SequenceGenerator(name = "line_sequence", sequenceName = "line_sequence", allocationSize = 50)
     private Long id;
     private String name;
     private String color;
@@ -66,6 +78,10 @@ public class Line {
         this.sections.add(section);
     }
 
+    public void addSections(final List<Section> sections) {
+        this.sections.addAll(sections);
+    }
+
     public List<Station> getStations() {
         return sections.getStations();
     }
@@ -73,4 +89,12 @@ public class Line {
     public void removeSection(final Station station) {
         sections.remove(station);
     }
+
+    public void clearSections() {
+        sections.clear();
+    }
+
+    public List<SectionsChangedEvent> pullEvents() {
+        return sections.pullEvents();
+    }
 }
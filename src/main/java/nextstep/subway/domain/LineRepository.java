@@ -1,11 +1,39 @@
 package nextstep.subway.domain;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
-    @Query("SELECT l FROM Line l left join fetch l.sections.sections")
+    /**
+     * 노선, 구간, 구간의 두 역을 한 번의 조회로 읽는다. 구간 수만큼 생기는 중복 노선은 DISTINCT 로 합친다.
+     */
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT l FROM Line l left join fetch l.sections.sections s"
+            + " left join fetch s.upStation left join fetch s.downStation")
     List<Line> findAll();
+
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT l FROM Line l left join fetch l.sections.sections s"
+            + " left join fetch s.upStation left join fetch s.downStation WHERE l.id = :id")
+    Optional<Line> findWithSectionsById(@Param("id") Long id);
+
+    /**
+     * 엔티티를 만들지 않는 값 행을 노선, 구간 순서대로 커서로 읽는다. 열려 있는 트랜잭션 안에서 다 읽고 닫아야 한다.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT l.id AS lineId, l.name AS lineName, l.color AS lineColor,"
+            + " up.id AS upStationId, up.name AS upStationName, down.id AS downStationId, down.name AS downStationName"
+            + " FROM Line l left join l.sections.sections s left join s.upStation up left join s.downStation down"
+            + " ORDER BY l.id, s.position")
+    Stream<LineSectionRow> streamAllLineSections();
 }
@@ -0,0 +1,20 @@
+package nextstep.subway.domain;
+
+/**
+ * 노선과 그 노선의 구간 하나를 역 id, 이름까지 펼친 한 행. 구간이 없는 노선은 역 값이 모두 null 인 한 행이다.
+ */
+public interface LineSectionRow {
+    Long getLineId();
+
+    String getLineName();
+
+    String getLineColor();
+
+    Long getUpStationId();
+
+    String getUpStationName();
+
+    Long getDownStationId();
+
+    String getDownStationName();
+}
@@ -0,0 +1,166 @@
+package nextstep.subway.domain;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import nextstep.subway.domain.exception.RemoveSectionsSizeException;
+import nextstep.subway.domain.exception.StationNotInSectionsException;
+
+/**
+ * 노선의 구간 수와 바꾸려는 역에 닿은 구간만으로 구간을 추가 / 제거한다. 규칙은 Sections 와 같다.
+ * 새 구간은 앞뒤 구간의 position 사이 빈 번호에 놓으므로 뒤따르는 구간은 읽지도 옮기지도 않는다.
+ * 사이에 빈 번호가 없을 때만 PositionShifter 로 뒤따르는 구간의 position 을 한 번에 옮기며, 닿은 구간을 고치기 전에 옮긴다.
+ */
+public class PartialSections {
+    private static final int REMOVE_SIZE_MIN = 2;
+
+    private final long size;
+    private final List<Section> sections;
+    private final SectionsValidator sectionsValidator;
+
+    public PartialSections(final long size, final List<Section> sections) {
+        this.size = size;
+        this.sections = sections;
+        this.sectionsValidator = new SectionsValidator();
+    }
+
+    public SectionsChangedEvent add(final Section section, final PositionShifter shifter) {
+        if (size == 0) {
+            section.changePosition(0);
+            return SectionsChangedEvent.created(section);
+        }
+        List<Section> sectionsBasedOnUpStation = getSectionsBy(section.getUpStation());
+        List<Section> sectionsBasedOnDownStation = getSectionsBy(section.getDownStation());
+        sectionsValidator.addSection(size, sectionsBasedOnUpStation, sectionsBasedOnDownStation);
+        if (sectionsBasedOnUpStation.isEmpty()) {
+            return addBasedOnDownStationSection(section, sectionsBasedOnDownStation, shifter);
+        }
+        return addBasedOnUpStationSection(section, sectionsBasedOnUpStation, shifter);
+    }
+
+    private SectionsChangedEvent addBasedOnDownStationSection(
+            final Section section,
+            final List<Section> sectionsBasedOnDownStation,
+            final PositionShifter shifter
+    ) {
+        Optional<Section> existing = find(sectionsBasedOnDownStation, it -> it.isDownStation(section.getDownStation()));
+        Optional<Section> next = find(sectionsBasedOnDownStation, it -> it.isUpStation(section.getDownStation()));
+        if (existing.isEmpty()) {
+            section.changePosition(positionBetween(null, next.get(), shifter));
+            return SectionsChangedEvent.extended(section);
+        }
+        Section existingSection = existing.get();
+        sectionsValidator.distanceAddSectionBetweenExistingSection(section, existingSection);
+        section.changePosition(positionBetween(existingSection, next.orElse(null), shifter));
+        existingSection
+                .setDownStation(section.getUpStation())
+                .minusDistance(section.getDistance());
+        return SectionsChangedEvent.split(existingSection, section);
+    }
+
+    private SectionsChangedEvent addBasedOnUpStationSection(
+            final Section section,
+            final List<Section> sectionsBasedOnUpStation,
+            final PositionShifter shifter
+    ) {
+        Optional<Section> existing = find(sectionsBasedOnUpStation, it -> it.isUpStation(section.getUpStation()));
+        Optional<Section> previous = find(sectionsBasedOnUpStation, it -> it.isDownStation(section.getUpStation()));
+        if (existing.isEmpty()) {
+            section.changePosition(positionBetween(previous.get(), null, shifter));
+            return SectionsChangedEvent.extended(section);
+        }
+        Section existingSection = existing.get();
+        sectionsValidator.distanceAddSectionBetweenExistingSection(section, existingSection);
+        section.changePosition(positionBetween(previous.orElse(null), existingSection, shifter));
+        existingSection
+                .setUpStation(section.getDownStation())
+                .minusDistance(section.getDistance());
+        return SectionsChangedEvent.split(existingSection, section);
+    }
+
+    /**
+     * 제거해도 남은 구간의 순서는 그대로이므로 position 을 옮기지 않는다.
+     */
+    public SectionsChangedEvent remove(final Station station) {
+        if (size < REMOVE_SIZE_MIN) {
+            throw new RemoveSectionsSizeException(REMOVE_SIZE_MIN);
+        }
+        List<Section> sectionsOfStation = getSectionsBy(station);
+        if (sectionsOfStation.isEmpty()) {
+            throw new StationNotInSectionsException();
+        }
+        Optional<Section> sectionToRemoveDownStation = find(sectionsOfStation, it -> it.isDownStation(station));
+        Optional<Section> sectionToRemoveUpStation = find(sectionsOfStation, it -> it.isUpStation(station));
+        if (sectionToRemoveDownStation.isEmpty()) {
+            return SectionsChangedEvent.trimmed(sectionToRemoveUpStation.get());
+        }
+        if (sectionToRemoveUpStation.isEmpty()) {
+            return SectionsChangedEvent.trimmed(sectionToRemoveDownStation.get());
+        }
+        return removeMiddleSection(sectionToRemoveDownStation.get(), sectionToRemoveUpStation.get());
+    }
+
+    /**
+     * 합친 구간은 뒤 구간의 position 을 이어받아, 같은 자리에 넣고 빼기를 반복해도 앞 구간과의 빈 번호가 줄지 않는다.
+     */
+    private SectionsChangedEvent removeMiddleSection(
+            final Section sectionToRemoveDownStation,
+            final Section sectionToRemoveUpStation
+    ) {
+        int position = sectionToRemoveUpStation.getPosition();
+        Section relocateSection = new Section(
+                sectionToRemoveUpStation.getLine(),
+                sectionToRemoveDownStation.getUpStation(),
+                sectionToRemoveUpStation.getDownStation(),
+                sectionToRemoveDownStation.getDistance().plus(sectionToRemoveUpStation.getDistance())
+        );
+        relocateSection.changePosition(position);
+        return SectionsChangedEvent.merged(
+                relocateSection,
+                List.of(sectionToRemoveDownStation, sectionToRemoveUpStation)
+        );
+    }
+
+    /**
+     * previous 와 next 사이의 position 을 고른다. 종점 바깥이라 한쪽이 없으면 있는 쪽에서 POSITION_GAP 만큼 떨어진 번호이다.
+     * 사이에 빈 번호가 없으면 next 부터 POSITION_GAP 만큼 밀어 자리를 만든다. 이때만 뒤따르는 구간 수에 비례하는 비용이 든다.
+     */
+    private int positionBetween(final Section previous, final Section next, final PositionShifter shifter) {
+        if (next == null) {
+            return previous.getPosition() + Section.POSITION_GAP;
+        }
+        if (previous == null) {
+            if ((long) next.getPosition() - Section.POSITION_GAP < Integer.MIN_VALUE) {
+                shift(shifter, next.getPosition(), Section.POSITION_GAP);
+            }
+            return next.getPosition() - Section.POSITION_GAP;
+        }
+        if (next.getPosition() - previous.getPosition() < 2) {
+            shift(shifter, next.getPosition(), Section.POSITION_GAP);
+        }
+        return previous.getPosition() + (next.getPosition() - previous.getPosition()) / 2;
+    }
+
+    /**
+     * 저장된 position 을 옮기고, 이미 읽어 둔 구간의 position 도 같이 맞춘다.
+     */
+    private void shift(final PositionShifter shifter, final int from, final int offset) {
+        shifter.shift(from, offset);
+        sections.stream()
+                .filter(section -> section.getPosition() >= from)
+                .forEach(section -> section.changePosition(section.getPosition() + offset));
+    }
+
+    private List<Section> getSectionsBy(final Station station) {
+        return sections.stream()
+                .filter(section -> section.isContain(station))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private Optional<Section> find(final List<Section> sections, final Predicate<Section> condition) {
+        return sections.stream()
+                .filter(condition)
+                .findFirst();
+    }
+}
@@ -1,11 +1,16 @@
 package nextstep.subway.domain;
 
-import java.util.List;
 import nextstep.subway.domain.dto.PathDto;
 
 public interface Path {
 
-    void init(final List<Line> lines);
+    void init(final GraphSource source);
 
-    PathDto find(final Station source, final Station target);
+    void update(final SectionsChangedEvent event);
+
+    GraphSnapshot snapshot();
+
+    default PathDto find(final Station source, final Station target) {
+        return snapshot().find(source, target);
+    }
 }
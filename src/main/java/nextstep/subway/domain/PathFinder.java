@@ -1,6 +1,8 @@
 package nextstep.subway.domain;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import nextstep.subway.domain.dto.PathDto;
 import nextstep.subway.domain.exception.PathFindException;
 import org.springframework.stereotype.Component;
@@ -10,17 +12,57 @@ public class PathFinder {
 
     private final Path path;
 
+    /**
+     * 구간을 읽는 동안 커밋된 변경. 읽은 결과에 이미 들어있을 수도 있지만, 같은 변경을 다시 적용해도 결과가 같으므로 순서대로 다시 적용한다.
+     */
+    private final List<SectionsChangedEvent> pendingEvents = new ArrayList<>();
+    private boolean loading;
+
     public PathFinder(final Path path) {
         this.path = path;
     }
 
-    public void init(final List<Line> lines) {
-        path.init(lines);
+    /**
+     * 엔티티 없이 읽은 구간 값으로 그래프를 만든다. 읽는 동안 커밋된 변경은 그래프를 만든 뒤 순서대로 다시 적용한다.
+     */
+    public GraphSource load(final Supplier<GraphSource> loader) {
+        synchronized (this) {
+            loading = true;
+            pendingEvents.clear();
+        }
+        try {
+            GraphSource loaded = loader.get();
+            synchronized (this) {
+                path.init(loaded);
+                pendingEvents.forEach(path::update);
+            }
+            return loaded;
+        } finally {
+            synchronized (this) {
+                pendingEvents.clear();
+                loading = false;
+            }
+        }
+    }
+
+    public synchronized void update(final SectionsChangedEvent event) {
+        if (loading) {
+            pendingEvents.add(event);
+        }
+        path.update(event);
+    }
+
+    public GraphSnapshot snapshot() {
+        return path.snapshot();
     }
 
     public PathDto find(final Station source, final Station target) {
+        return find(snapshot(), source, target);
+    }
+
+    public PathDto find(final GraphSnapshot snapshot, final Station source, final Station target) {
         try {
-            return path.find(source, target);
+            return snapshot.find(source, target);
         } catch (IllegalArgumentException e) {
             throw new PathFindException();
         }
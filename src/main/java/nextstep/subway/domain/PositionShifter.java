@@ -0,0 +1,9 @@
+package nextstep.subway.domain;
+
+/**
+ * 노선에서 from 이상인 구간의 position 을 offset 만큼 옮긴다.
+ */
+@FunctionalInterface
+public interface PositionShifter {
+    void shift(final int from, final int offset);
+}
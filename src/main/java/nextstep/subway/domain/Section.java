@@ -3,34 +3,51 @@ package nextstep.subway.domain;
 import javax.persistence.CascadeType;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 import nextstep.subway.domain.exception.SectionStationCanNotBeNullException;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_section_line_up_station", columnList = "line_id, up_station_id"),
+        @Index(name = "ix_section_line_down_station", columnList = "line_id, down_station_id"),
+        @Index(name = "ix_section_line_position", columnList = "line_id, position")
+})
 public class Section {
+    /**
+     * 새로 매기는 position 의 간격. 구간 사이에 빈 번호를 남겨 두어, 가운데에 구간을 넣을 때 뒤따르는 구간을 옮기지 않는다.
+     */
+    public static final int POSITION_GAP = 1 << 10;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_sequence")
+    @SequenceGenerator(name = "section_sequence", sequenceName = "section_sequence", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "line_id")
     private Line line;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "up_station_id")
     private Station upStation;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "down_station_id")
     private Station downStation;
 
     @Embedded
     private Distance distance;
 
+    private int position;
+
     public Section() {
 
     }
@@ -78,6 +95,14 @@ public class Section {
         return distance;
     }
 
+    public int getPosition() {
+        return position;
+    }
+
+    void changePosition(final int position) {
+        this.position = position;
+    }
+
     public boolean isContain(final Station station) {
         return this.upStation.equals(station) || this.downStation.equals(station);
     }
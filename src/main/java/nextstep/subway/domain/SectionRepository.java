@@ -0,0 +1,43 @@
+package nextstep.subway.domain;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface SectionRepository extends JpaRepository<Section, Long> {
+    long countByLineId(Long lineId);
+
+    /**
+     * 구간의 역은 경로 그래프로 넘어가 트랜잭션 밖에서 이름까지 읽히므로 같이 읽어 둔다.
+     */
+    @Query("SELECT s FROM Section s join fetch s.upStation join fetch s.downStation"
+            + " WHERE s.line.id = :lineId AND s.upStation IN :stations")
+    List<Section> findAllByLineIdAndUpStationIn(
+            @Param("lineId") Long lineId,
+            @Param("stations") Collection<Station> stations
+    );
+
+    @Query("SELECT s FROM Section s join fetch s.upStation join fetch s.downStation"
+            + " WHERE s.line.id = :lineId AND s.downStation IN :stations")
+    List<Section> findAllByLineIdAndDownStationIn(
+            @Param("lineId") Long lineId,
+            @Param("stations") Collection<Station> stations
+    );
+
+    @Modifying
+    @Query("UPDATE Section s SET s.position = s.position + :offset WHERE s.line.id = :lineId AND s.position >= :from")
+    int shiftPositions(@Param("lineId") Long lineId, @Param("from") int from, @Param("offset") int offset);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.id AS id, s.upStation.id AS upStationId, s.downStation.id AS downStationId,"
+            + " s.distance.value AS distance FROM Section s")
+    Stream<SectionTuple> streamAllTuples();
+}
@@ -0,0 +1,14 @@
+package nextstep.subway.domain;
+
+/**
+ * 경로 그래프를 만들 때 구간 테이블에서 바로 읽는 값. 역은 id 만 읽으므로 역 테이블과 join 하지 않는다.
+ */
+public interface SectionTuple {
+    Long getId();
+
+    Long getUpStationId();
+
+    Long getDownStationId();
+
+    int getDistance();
+}
@@ -2,11 +2,19 @@ package nextstep.subway.domain;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
 import javax.persistence.Transient;
 import nextstep.subway.domain.exception.NotExistBasedOnDownStationException;
 import nextstep.subway.domain.exception.NotExistBasedOnUpStationException;
@@ -14,23 +22,52 @@ import nextstep.subway.domain.exception.RemoveSectionsSizeException;
 import nextstep.subway.domain.exception.SectionsEmptyException;
 import nextstep.subway.domain.exception.StationNotInSectionsException;
 
+/**
+ * 구간 목록. 구간은 상행 종점부터 역 순서대로 놓이며 그 순서를 position 으로 저장하므로, 불러온 목록을 그대로 따라가면 역 순서가 된다.
+ * position 은 순서만 뜻하고 연속하지 않아도 된다. 새 구간은 앞뒤 구간의 position 사이 빈 번호에 놓고, 구간을 빼도 남은 구간의 position 은 그대로 둔다.
+ * 사이에 빈 번호가 없을 때만 뒤따르는 구간의 position 을 옮긴다. PartialSections 와 같은 규칙이다.
+ * 역으로 구간 찾기는 상행역 / 하행역별 색인으로 상수 시간에 한다. 색인은 저장하지 않으며, 불러온 뒤 처음 쓸 때 만들고 add / remove 에서 바뀐 구간만 고친다.
+ */
 @Embeddable
 public class Sections {
     private static final int REMOVE_SIZE_MIN = 2;
 
     @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
+    @OrderBy("position ASC")
     private List<Section> sections = new ArrayList<>();
 
     @Transient
     private final SectionsValidator sectionsValidator;
 
+    @Transient
+    private final List<SectionsChangedEvent> events = new ArrayList<>();
+
+    @Transient
+    private List<Section> indexedSections;
+
+    @Transient
+    private Map<Station, Section> sectionsByUpStation;
+
+    @Transient
+    private Map<Station, Section> sectionsByDownStation;
+
+    @Transient
+    private boolean deferOrdering;
+
+    @Transient
+    private Section firstSection;
+
+    @Transient
+    private Section lastSection;
+
     public Sections() {
         this.sectionsValidator = new SectionsValidator();
     }
 
     public void add(final Section section) {
         if (sections.size() == 0) {
-            sections.add(section);
+            insertFirst(section);
+            events.add(SectionsChangedEvent.created(section));
             return;
         }
         List<Section> sectionsBasedOnUpStation = getSectionsBy(section.getUpStation());
@@ -46,48 +83,101 @@ public class Sections {
 
     private void addBasedOnDownStationSection(final Section section) {
         if (section.getDownStation().equals(getLineUpStation())) {
-            sections.add(section);
+            insertFirst(section);
+            events.add(SectionsChangedEvent.extended(section));
             return;
         }
         Section existingSection = findSectionBasedOnDownStationBy(section.getDownStation());
         sectionsValidator.distanceAddSectionBetweenExistingSection(section, existingSection);
+        unlink(existingSection);
         existingSection
                 .setDownStation(section.getUpStation())
                 .minusDistance(section.getDistance());
-        sections.add(section);
+        link(existingSection);
+        insertAfter(existingSection, section);
+        events.add(SectionsChangedEvent.split(existingSection, section));
     }
 
     private void addBasedOnUpStationSection(final Section section) {
         if (section.getUpStation().equals(getLineDownStation())) {
-            sections.add(section);
+            insertLast(section);
+            events.add(SectionsChangedEvent.extended(section));
             return;
         }
         Section existingSection = findSectionBasedOnUpStationBy(section.getUpStation());
         sectionsValidator.distanceAddSectionBetweenExistingSection(section, existingSection);
+        unlink(existingSection);
         existingSection
                 .setUpStation(section.getDownStation())
                 .minusDistance(section.getDistance());
-        sections.add(section);
+        link(existingSection);
+        insertBefore(existingSection, section);
+        events.add(SectionsChangedEvent.split(existingSection, section));
+    }
+
+    /**
+     * 순서대로 모두 추가하고 역 순서와 position 은 끝에서 한 번만 맞춘다. 하나라도 규칙에 어긋나면 예외를 던지고, 트랜잭션이 함께 되돌린다.
+     * 추가하는 동안에는 구간을 목록 끝에 붙이고 역별 색인과 양 끝 구간만 고치므로, 구간 k 개를 더하는 비용은 O(n + k) 이다.
+     */
+    public void addAll(final List<Section> sections) {
+        int existingSize = this.sections.size();
+        if (existingSize > 0) {
+            firstSection = this.sections.get(0);
+            lastSection = this.sections.get(existingSize - 1);
+        }
+        deferOrdering = true;
+        try {
+            sections.forEach(this::add);
+        } finally {
+            deferOrdering = false;
+            reorder(existingSize);
+        }
     }
 
     public void remove(final Station station) {
         validateRemoveBy(station);
 
         if (isLineUpStation(station)) {
-            sections.remove(0);
+            Section removedSection = delete(0);
+            events.add(SectionsChangedEvent.trimmed(removedSection));
             return;
         }
         if (isLineDownStation(station)) {
-            sections.remove(sections.size() - 1);
+            Section removedSection = delete(sections.size() - 1);
+            events.add(SectionsChangedEvent.trimmed(removedSection));
             return;
         }
-        Section sectionToRemoveDownStation = findSectionBasedOnDownStationBy(station);
-        Section sectionToRemoveUpStation = findSectionBasedOnUpStationBy(station);
-        sections.removeAll(List.of(sectionToRemoveDownStation, sectionToRemoveUpStation));
+        int position = sections.indexOf(findSectionBasedOnDownStationBy(station));
+        Section sectionToRemoveDownStation = delete(position);
+        Section sectionToRemoveUpStation = delete(position);
 
         Section relocateSection
                 = relocateWithRemovingMiddleSection(sectionToRemoveDownStation, sectionToRemoveUpStation);
-        sections.add(relocateSection);
+        relocateSection.changePosition(sectionToRemoveUpStation.getPosition());
+        sections.add(position, relocateSection);
+        link(relocateSection);
+        events.add(SectionsChangedEvent.merged(
+                relocateSection,
+                List.of(sectionToRemoveDownStation, sectionToRemoveUpStation)
+        ));
+    }
+
+    public void clear() {
+        if (sections.isEmpty()) {
+            return;
+        }
+        events.add(SectionsChangedEvent.cleared(sections));
+        sections.clear();
+        index();
+    }
+
+    /**
+     * 마지막으로 꺼낸 이후 쌓인 구간 변경 이벤트를 반환하고 비운다.
+     */
+    public List<SectionsChangedEvent> pullEvents() {
+        List<SectionsChangedEvent> pulled = List.copyOf(events);
+        events.clear();
+        return pulled;
     }
 
     private void validateRemoveBy(final Station station) {
@@ -100,13 +190,11 @@ public class Sections {
     }
 
     private boolean isContain(final Station station) {
-        return sections.stream().anyMatch(section -> section.isContain(station));
+        return upStationIndex().containsKey(station) || downStationIndex().containsKey(station);
     }
 
     private Section findSectionBasedOnDownStationBy(final Station downStation) {
-        return getSectionsBy(downStation).stream()
-                .filter(section -> section.isDownStation(downStation))
-                .findFirst()
+        return Optional.ofNullable(downStationIndex().get(downStation))
                 .orElseThrow(NotExistBasedOnDownStationException::new);
     }
 
@@ -133,66 +221,236 @@ public class Sections {
     }
 
     private List<Station> getSortedStation() {
-        List<Station> stations = new ArrayList<>();
-        Station lineUpStation = getLineUpStation();
-        Station lineDownStation = getLineDownStation();
-        for (Section station : sections) {
-            Section upStationSection = findSectionBasedOnUpStationBy(lineUpStation);
-            stations.add(upStationSection.getUpStation());
-            lineUpStation = upStationSection.getDownStation();
-        }
-        stations.add(lineDownStation);
+        List<Station> stations = new ArrayList<>(sections.size() + 1);
+        stations.add(getLineUpStation());
+        for (Section section : sections) {
+            stations.add(section.getDownStation());
+        }
         return stations;
     }
 
     private Section findSectionBasedOnUpStationBy(final Station station) {
-        return getSectionsBy(station).stream()
-                .filter(section -> section.isUpStation(station))
-                .findFirst()
+        return Optional.ofNullable(upStationIndex().get(station))
                 .orElseThrow(NotExistBasedOnUpStationException::new);
     }
 
     private List<Section> getSectionsBy(final Station station) {
-        return sections.stream()
-                .filter(s -> s.isContain(station))
+        return Stream.of(downStationIndex().get(station), upStationIndex().get(station))
+                .filter(Objects::nonNull)
                 .collect(Collectors.toUnmodifiableList());
     }
 
     public Station getLineDownStation() {
-        return sections.stream()
-                .map(Section::getDownStation)
-                .filter(this::isLineDownStation)
-                .findFirst()
-                .orElseThrow(SectionsEmptyException::new);
+        if (sections.isEmpty()) {
+            throw new SectionsEmptyException();
+        }
+        if (deferOrdering) {
+            return lastSection.getDownStation();
+        }
+        return sections.get(sections.size() - 1).getDownStation();
     }
 
     private boolean isLineDownStation(final Station station) {
-        return findContainSectionsBy(station).stream()
-                .filter(section -> section.isUpStation(station))
-                .findFirst().isEmpty();
+        return station.equals(getLineDownStation());
     }
 
     public Station getLineUpStation() {
-        return sections.stream()
-                .map(Section::getUpStation)
-                .filter(this::isLineUpStation)
-                .findFirst()
-                .orElseThrow(SectionsEmptyException::new);
+        if (sections.isEmpty()) {
+            throw new SectionsEmptyException();
+        }
+        if (deferOrdering) {
+            return firstSection.getUpStation();
+        }
+        return sections.get(0).getUpStation();
     }
 
     private boolean isLineUpStation(final Station station) {
-        return findContainSectionsBy(station).stream()
-                .filter(section -> section.isDownStation(station))
-                .findFirst().isEmpty();
+        return station.equals(getLineUpStation());
     }
 
-    private List<Section> findContainSectionsBy(final Station station) {
-        List<Section> result = sections.stream()
-                .filter(section -> section.isContain(station))
-                .collect(Collectors.toUnmodifiableList());
-        if (result.isEmpty()) {
-            throw new StationNotInSectionsException();
+    private void insertFirst(final Section section) {
+        if (deferOrdering) {
+            lastSection = sections.isEmpty() ? section : lastSection;
+            firstSection = section;
+            append(section);
+            return;
+        }
+        insert(0, section);
+    }
+
+    private void insertLast(final Section section) {
+        if (deferOrdering) {
+            lastSection = section;
+            append(section);
+            return;
+        }
+        insert(sections.size(), section);
+    }
+
+    private void insertBefore(final Section existingSection, final Section section) {
+        if (deferOrdering) {
+            firstSection = existingSection == firstSection ? section : firstSection;
+            append(section);
+            return;
+        }
+        insert(sections.indexOf(existingSection), section);
+    }
+
+    private void insertAfter(final Section existingSection, final Section section) {
+        if (deferOrdering) {
+            lastSection = existingSection == lastSection ? section : lastSection;
+            append(section);
+            return;
+        }
+        insert(sections.indexOf(existingSection) + 1, section);
+    }
+
+    /**
+     * 역 순서의 index 자리에 구간을 넣고, 앞뒤 구간의 position 사이 번호를 준다.
+     */
+    private void insert(final int index, final Section section) {
+        Section previous = index == 0 ? null : sections.get(index - 1);
+        Section next = index == sections.size() ? null : sections.get(index);
+        int position = positionBetween(previous, next, index);
+        sections.add(index, section);
+        link(section);
+        section.changePosition(position);
+    }
+
+    /**
+     * previous 와 next 사이의 position 을 고른다. 종점 바깥이라 한쪽이 없으면 있는 쪽에서 POSITION_GAP 만큼 떨어진 번호이다.
+     * 사이에 빈 번호가 없으면 next 부터 POSITION_GAP 만큼 밀어 자리를 만든다. 이때만 뒤따르는 구간 수에 비례하는 비용이 든다.
+     */
+    private int positionBetween(final Section previous, final Section next, final int nextIndex) {
+        if (next == null) {
+            return previous == null ? 0 : previous.getPosition() + Section.POSITION_GAP;
+        }
+        if (previous == null) {
+            if ((long) next.getPosition() - Section.POSITION_GAP < Integer.MIN_VALUE) {
+                shiftFrom(nextIndex, Section.POSITION_GAP);
+            }
+            return next.getPosition() - Section.POSITION_GAP;
+        }
+        if (next.getPosition() - previous.getPosition() < 2) {
+            shiftFrom(nextIndex, Section.POSITION_GAP);
+        }
+        return previous.getPosition() + (next.getPosition() - previous.getPosition()) / 2;
+    }
+
+    private void shiftFrom(final int index, final int offset) {
+        for (int i = index; i < sections.size(); i++) {
+            sections.get(i).changePosition(sections.get(i).getPosition() + offset);
+        }
+    }
+
+    private void append(final Section section) {
+        sections.add(section);
+        link(section);
+    }
+
+    /**
+     * 상행 종점 구간부터 상행역 색인을 따라가며 역 순서로 다시 놓고, 목록 끝에 붙여 둔 새 구간에만 position 을 매긴다.
+     * 불러온 컬렉션을 바꿔치우지 않도록 같은 목록을 비우고 다시 채운다.
+     */
+    private void reorder(final int existingSize) {
+        Set<Section> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        added.addAll(sections.subList(existingSize, sections.size()));
+        List<Section> ordered = new ArrayList<>(sections.size());
+        for (Section section = firstSection; section != null; section = upStationIndex().get(section.getDownStation())) {
+            ordered.add(section);
+        }
+        firstSection = null;
+        lastSection = null;
+        sections.clear();
+        sections.addAll(ordered);
+        int from = 0;
+        while (from < sections.size()) {
+            if (!added.contains(sections.get(from))) {
+                from++;
+                continue;
+            }
+            int to = from + 1;
+            while (to < sections.size() && added.contains(sections.get(to))) {
+                to++;
+            }
+            positionRun(from, to);
+            from = to;
+        }
+    }
+
+    /**
+     * 이어진 새 구간 [from, to) 를 앞뒤 기존 구간의 position 사이에 고르게 놓는다. 기존 구간끼리의 순서는 구간을 더해도 바뀌지 않으므로 기존 구간은 옮기지 않는다.
+     * 사이에 빈 번호가 모자랄 때만 from 부터 끝까지 다시 매긴다.
+     */
+    private void positionRun(final int from, final int to) {
+        long count = to - from;
+        Section previous = from == 0 ? null : sections.get(from - 1);
+        Section next = to == sections.size() ? null : sections.get(to);
+        if (next == null) {
+            renumberFrom(from);
+            return;
+        }
+        if (previous == null) {
+            if (next.getPosition() - count * Section.POSITION_GAP < Integer.MIN_VALUE) {
+                renumberFrom(from);
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                sections.get(i).changePosition((int) (next.getPosition() - (to - i) * (long) Section.POSITION_GAP));
+            }
+            return;
+        }
+        long space = (long) next.getPosition() - previous.getPosition();
+        if (space <= count) {
+            renumberFrom(from);
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            sections.get(i).changePosition((int) (previous.getPosition() + space * (i - from + 1) / (count + 1)));
         }
-        return result;
+    }
+
+    private Section delete(final int index) {
+        Section section = sections.remove(index);
+        unlink(section);
+        return section;
+    }
+
+    private void renumberFrom(final int index) {
+        for (int i = index; i < sections.size(); i++) {
+            int position = i == 0 ? 0 : sections.get(i - 1).getPosition() + Section.POSITION_GAP;
+            sections.get(i).changePosition(position);
+        }
+    }
+
+    private Map<Station, Section> upStationIndex() {
+        if (indexedSections != sections) {
+            index();
+        }
+        return sectionsByUpStation;
+    }
+
+    private Map<Station, Section> downStationIndex() {
+        if (indexedSections != sections) {
+            index();
+        }
+        return sectionsByDownStation;
+    }
+
+    private void index() {
+        indexedSections = sections;
+        sectionsByUpStation = new HashMap<>();
+        sectionsByDownStation = new HashMap<>();
+        sections.forEach(this::link);
+    }
+
+    private void link(final Section section) {
+        upStationIndex().put(section.getUpStation(), section);
+        downStationIndex().put(section.getDownStation(), section);
+    }
+
+    private void unlink(final Section section) {
+        upStationIndex().remove(section.getUpStation(), section);
+        downStationIndex().remove(section.getDownStation(), section);
     }
 }
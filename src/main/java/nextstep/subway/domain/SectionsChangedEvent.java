@@ -0,0 +1,77 @@
+package nextstep.subway.domain;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 구간 목록 변경 이벤트. 경로 그래프는 전체를 다시 읽지 않고 upserted 구간을 반영하고 removed 구간을 지워 갱신한다.
+ * 구간은 커밋 이후에 읽으므로 새로 저장된 구간도 id 를 가진다.
+ */
+public class SectionsChangedEvent {
+
+    public enum Type {
+        CREATED, EXTENDED, SPLIT, MERGED, TRIMMED, CLEARED, COMBINED
+    }
+
+    private final Type type;
+    private final List<Section> upserted;
+    private final List<Section> removed;
+
+    private SectionsChangedEvent(final Type type, final List<Section> upserted, final List<Section> removed) {
+        this.type = type;
+        this.upserted = upserted;
+        this.removed = removed;
+    }
+
+    public static SectionsChangedEvent created(final Section section) {
+        return new SectionsChangedEvent(Type.CREATED, List.of(section), Collections.emptyList());
+    }
+
+    public static SectionsChangedEvent extended(final Section section) {
+        return new SectionsChangedEvent(Type.EXTENDED, List.of(section), Collections.emptyList());
+    }
+
+    public static SectionsChangedEvent split(final Section existingSection, final Section newSection) {
+        return new SectionsChangedEvent(Type.SPLIT, List.of(existingSection, newSection), Collections.emptyList());
+    }
+
+    public static SectionsChangedEvent merged(final Section mergedSection, final List<Section> removedSections) {
+        return new SectionsChangedEvent(Type.MERGED, List.of(mergedSection), List.copyOf(removedSections));
+    }
+
+    public static SectionsChangedEvent trimmed(final Section removedSection) {
+        return new SectionsChangedEvent(Type.TRIMMED, Collections.emptyList(), List.of(removedSection));
+    }
+
+    public static SectionsChangedEvent cleared(final List<Section> removedSections) {
+        return new SectionsChangedEvent(Type.CLEARED, Collections.emptyList(), List.copyOf(removedSections));
+    }
+
+    /**
+     * 여러 변경을 경로 그래프가 한 번에 반영하도록 묶는다. 뒤에서 제거된 구간은 upserted 에서 뺀다.
+     */
+    public static SectionsChangedEvent combined(final List<SectionsChangedEvent> events) {
+        Set<Section> upserted = new LinkedHashSet<>();
+        Set<Section> removed = new LinkedHashSet<>();
+        for (SectionsChangedEvent event : events) {
+            upserted.removeAll(event.removed);
+            removed.addAll(event.removed);
+            upserted.addAll(event.upserted);
+        }
+        return new SectionsChangedEvent(Type.COMBINED, List.copyOf(upserted), List.copyOf(removed));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public List<Section> getUpserted() {
+        return upserted;
+    }
+
+    public List<Section> getRemoved() {
+        return removed;
+    }
+}
@@ -10,8 +10,15 @@ public class SectionsValidator {
             final List<Section> sections,
             final List<Section> sectionsBasedOnUpStation,
             final List<Section> sectionsBasedOnDownStation) {
+        addSection(sections.size(), sectionsBasedOnUpStation, sectionsBasedOnDownStation);
+    }
+
+    public void addSection(
+            final long size,
+            final List<Section> sectionsBasedOnUpStation,
+            final List<Section> sectionsBasedOnDownStation) {
         if (isAlreadyAddedSection(sectionsBasedOnUpStation, sectionsBasedOnDownStation)
-                || isNonIncludeStation(sections, sectionsBasedOnUpStation, sectionsBasedOnDownStation)) {
+                || isNonIncludeStation(size, sectionsBasedOnUpStation, sectionsBasedOnDownStation)) {
             throw new AddSectionConstraintException();
         }
     }
@@ -24,11 +31,11 @@ public class SectionsValidator {
     }
 
     private boolean isNonIncludeStation(
-            final List<Section> sections,
+            final long size,
             final List<Section> upStationSection,
             final List<Section> downStationSection
     ) {
-        return !sections.isEmpty() && upStationSection.isEmpty() && downStationSection.isEmpty();
+        return size > 0 && upStationSection.isEmpty() && downStationSection.isEmpty();
     }
 
     public void distanceAddSectionBetweenExistingSection(
@@ -1,6 +1,13 @@
 package nextstep.subway.domain;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface StationRepository extends JpaRepository<Station, Long> {
+    /**
+     * 생성자 표현식으로 만든 역은 영속성 컨텍스트에 올라가지 않는다.
+     */
+    @Query("SELECT new nextstep.subway.domain.Station(s.id, s.name) FROM Station s")
+    List<Station> findAllDetached();
 }
@@ -0,0 +1,22 @@
+package nextstep.subway.domain.dto;
+
+import nextstep.subway.domain.Station;
+
+public class ReachDto {
+
+    private Station station;
+    private double distance;
+
+    public ReachDto(final Station station, final double distance) {
+        this.station = station;
+        this.distance = distance;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public double getDistance() {
+        return distance;
+    }
+}
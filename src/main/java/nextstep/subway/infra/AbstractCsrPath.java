@@ -0,0 +1,273 @@
+package nextstep.subway.infra;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import nextstep.subway.domain.GraphSnapshot;
+import nextstep.subway.domain.GraphSource;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.SectionsChangedEvent;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.domain.dto.ReachDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CSR 그래프를 바탕으로 한 경로 엔진의 공통 흐름.
+ * 엔진별 전처리 결과(T)까지 모두 만든 뒤 한 번에 교체하여 게시하고, 조회는 게시된 스냅샷 하나만 사용한다.
+ * 구간 변경은 바뀐 행만 덧붙인 그래프에 이전 전처리 결과를 맞춰(patch) 바로 게시한다.
+ * 전처리를 다시 해야 하면(isOutdated) 그래프 압축과 전처리는 rebuildExecutor 에서 하고, 그동안 들어온 변경을 다시 적용해 게시한다.
+ * 자주 쓰이는 출발역의 최단 경로 트리는 hotSourceThreshold 를 넘겨 준 엔진만 보관한다. 기본은 보관하지 않는다.
+ */
+abstract class AbstractCsrPath<T> implements Path {
+    private static final Logger logger = LoggerFactory.getLogger(AbstractCsrPath.class);
+
+    /**
+     * 덧붙인 행이 이보다 많으면 다시 압축한다. 변경 한 번의 비용이 덧붙인 행의 간선 수에 비례하므로 작게 둔다.
+     */
+    private static final int MAX_PATCHED_VERTICES = 256;
+    private static final Executor REBUILD_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "path-graph-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Executor rebuildExecutor;
+    private final int hotSourceThreshold;
+    private final List<SectionsChangedEvent> eventsSinceRebuild = new ArrayList<>();
+    private long version;
+    private long generation;
+    private boolean rebuilding;
+
+    protected AbstractCsrPath() {
+        this(REBUILD_EXECUTOR);
+    }
+
+    protected AbstractCsrPath(final Executor rebuildExecutor) {
+        this(rebuildExecutor, ShortestPathTreeCache.DISABLED);
+    }
+
+    protected AbstractCsrPath(final int hotSourceThreshold) {
+        this(REBUILD_EXECUTOR, hotSourceThreshold);
+    }
+
+    private AbstractCsrPath(final Executor rebuildExecutor, final int hotSourceThreshold) {
+        this.rebuildExecutor = rebuildExecutor;
+        this.hotSourceThreshold = hotSourceThreshold;
+    }
+
+    /**
+     * 진행 중인 재구성은 결과를 버린다.
+     */
+    @Override
+    public synchronized void init(final GraphSource source) {
+        generation++;
+        rebuilding = false;
+        eventsSinceRebuild.clear();
+        publish(prepare(CsrGraph.from(source)));
+    }
+
+    /**
+     * 게시된 스냅샷이 없으면 다음 init 에서 최신 구간을 읽으므로 무시한다.
+     * 비용은 바뀐 구간과 덧붙인 행에 비례하며, 재구성 중이면 끝난 뒤 다시 적용하도록 변경을 모아 둔다.
+     */
+    @Override
+    public synchronized void update(final SectionsChangedEvent event) {
+        Snapshot current = this.snapshot.get();
+        if (current == null) {
+            return;
+        }
+        T patched = patch(current.prepared, graphOf(current.prepared).apply(event));
+        publish(patched);
+        if (rebuilding) {
+            eventsSinceRebuild.add(event);
+            return;
+        }
+        if (isOutdated(patched)) {
+            scheduleRebuild(graphOf(patched));
+        }
+    }
+
+    @Override
+    public GraphSnapshot snapshot() {
+        Snapshot current = this.snapshot.get();
+        if (current == null) {
+            throw new IllegalStateException("경로 그래프가 초기화되지 않았습니다.");
+        }
+        return current;
+    }
+
+    protected abstract T prepare(final CsrGraph graph);
+
+    /**
+     * 구간 변경을 반영한 그래프에 이전 전처리 결과를 맞춘다. 전처리를 다시 하지 않으며, 결과는 그대로 조회에 쓸 수 있어야 한다.
+     */
+    protected abstract T patch(final T snapshot, final CsrGraph graph);
+
+    /**
+     * 전처리를 다시 해야 하는지. 기본은 덧붙인 행이 쌓여 그래프를 다시 압축해야 할 때이다.
+     */
+    protected boolean isOutdated(final T snapshot) {
+        return graphOf(snapshot).patchedSize() > MAX_PATCHED_VERTICES;
+    }
+
+    protected abstract CsrGraph graphOf(final T snapshot);
+
+    protected abstract PathDto search(final T snapshot, final int source, final int target);
+
+    protected IllegalArgumentException notConnected() {
+        return new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+
+    private void publish(final T prepared) {
+        this.snapshot.set(new Snapshot(++version, prepared));
+    }
+
+    private void scheduleRebuild(final CsrGraph graph) {
+        rebuilding = true;
+        eventsSinceRebuild.clear();
+        long scheduled = generation;
+        rebuildExecutor.execute(() -> rebuild(graph, scheduled));
+    }
+
+    /**
+     * 재구성한 결과는 같은 구간을 담고 있으므로 게시된 스냅샷의 버전을 그대로 쓴다.
+     * 실패하면 맞춰 둔 스냅샷을 계속 쓰고, 다음 변경에서 다시 시도한다.
+     */
+    private void rebuild(final CsrGraph graph, final long scheduled) {
+        T rebuilt;
+        try {
+            rebuilt = prepare(graph.compact());
+        } catch (RuntimeException e) {
+            logger.warn("경로 그래프 전처리를 다시 하지 못했습니다. 이전 전처리 결과를 계속 사용합니다.", e);
+            synchronized (this) {
+                if (scheduled == generation) {
+                    rebuilding = false;
+                    eventsSinceRebuild.clear();
+                }
+            }
+            return;
+        }
+        synchronized (this) {
+            if (scheduled != generation) {
+                return;
+            }
+            for (SectionsChangedEvent event : eventsSinceRebuild) {
+                rebuilt = patch(rebuilt, graphOf(rebuilt).apply(event));
+            }
+            rebuilding = false;
+            eventsSinceRebuild.clear();
+            this.snapshot.set(new Snapshot(version, rebuilt));
+            if (isOutdated(rebuilt)) {
+                scheduleRebuild(graphOf(rebuilt));
+            }
+        }
+    }
+
+    private void validate(final CsrGraph graph, final int sourceIndex, final int targetIndex) {
+        if (!graph.contains(sourceIndex) || !graph.contains(targetIndex)) {
+            throw new IllegalArgumentException("경로 그래프에 존재하지 않는 역입니다.");
+        }
+        if (sourceIndex == targetIndex) {
+            throw new IllegalArgumentException("출발역과 도착역은 같을 수 없습니다.");
+        }
+    }
+
+    private PathDto pathOf(final CsrGraph graph, final ShortestPathTree tree, final int target) {
+        int distance = tree.distance(target);
+        if (distance == SearchSpace.INFINITY) {
+            throw notConnected();
+        }
+        return new PathDto(tree.path(graph, target), distance);
+    }
+
+    private PathDto reverse(final PathDto path) {
+        List<Station> nodes = new ArrayList<>(path.getNodes());
+        Collections.reverse(nodes);
+        return new PathDto(nodes, path.getWeight());
+    }
+
+    /**
+     * 자주 쓰이는 출발역은 최단 경로 트리를 보관해 두고 탐색 없이 이전 정점만 따라간다.
+     * 출발역과 도착역을 바꾼 조회도 도착역의 트리가 있으면 그 경로를 뒤집어 쓴다.
+     */
+    private class Snapshot implements GraphSnapshot {
+        private final long version;
+        private final T prepared;
+        private final ShortestPathTreeCache<Integer, ShortestPathTree> trees = new ShortestPathTreeCache<>(
+                ShortestPathTreeCache.DEFAULT_MAX_BYTES,
+                hotSourceThreshold,
+                ShortestPathTree::bytes
+        );
+
+        private Snapshot(final long version, final T prepared) {
+            this.version = version;
+            this.prepared = prepared;
+        }
+
+        @Override
+        public long version() {
+            return version;
+        }
+
+        @Override
+        public Optional<Station> station(final long stationId) {
+            CsrGraph graph = graphOf(prepared);
+            int index = graph.indexOf(stationId);
+            if (!graph.contains(index)) {
+                return Optional.empty();
+            }
+            return Optional.of(graph.station(index));
+        }
+
+        @Override
+        public PathDto find(final Station source, final Station target) {
+            CsrGraph graph = graphOf(prepared);
+            int sourceIndex = graph.indexOf(source);
+            int targetIndex = graph.indexOf(target);
+            validate(graph, sourceIndex, targetIndex);
+            return trees.get(sourceIndex, index -> ShortestPathTree.from(graph, index))
+                    .map(tree -> pathOf(graph, tree, targetIndex))
+                    .or(() -> trees.peek(targetIndex).map(tree -> reverse(pathOf(graph, tree, sourceIndex))))
+                    .orElseGet(() -> search(prepared, sourceIndex, targetIndex));
+        }
+
+        @Override
+        public double[] distances(final Station source, final List<Station> targets) {
+            CsrGraph graph = graphOf(prepared);
+            int[] targetIndexes = targets.stream()
+                    .mapToInt(graph::indexOf)
+                    .toArray();
+            int[] distances = DijkstraKernel.distancesTo(
+                    graph,
+                    DijkstraKernel.localSearchSpace(),
+                    graph.indexOf(source),
+                    targetIndexes
+            );
+            return Arrays.stream(distances)
+                    .mapToDouble(distance -> distance == SearchSpace.INFINITY ? Double.POSITIVE_INFINITY : distance)
+                    .toArray();
+        }
+
+        @Override
+        public List<ReachDto> reachable(final Station source, final int budget) {
+            CsrGraph graph = graphOf(prepared);
+            int sourceIndex = graph.indexOf(source);
+            if (!graph.contains(sourceIndex)) {
+                return List.of(new ReachDto(source, 0));
+            }
+            SearchSpace space = DijkstraKernel.localSearchSpace();
+            List<ReachDto> reached = new ArrayList<>();
+            DijkstraKernel.settleWithin(graph, space, sourceIndex, budget,
+                    vertex -> reached.add(new ReachDto(graph.station(vertex), space.distance(vertex))));
+            return reached;
+        }
+    }
+}
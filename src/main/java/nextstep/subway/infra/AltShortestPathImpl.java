@@ -0,0 +1,79 @@
+package nextstep.subway.infra;
+
+import static nextstep.subway.infra.SearchSpace.NONE;
+
+import java.util.concurrent.Executor;
+import nextstep.subway.domain.dto.PathDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * ALT(A*, Landmarks, Triangle inequality) 탐색. 랜드마크 하한으로 도착역 방향의 정점부터 확정하므로
+ * 다익스트라와 같은 최단 거리를 유지하면서 확정하는 정점 수를 줄인다.
+ * 구간이 바뀌면 랜드마크 거리를 다시 계산하는 동안 이전 거리를 쓰고, 하한이 깨졌으면 휴리스틱 없이 찾는다.
+ */
+@ConditionalOnProperty(prefix = "subway.path", name = "engine", havingValue = "alt")
+@Component
+public class AltShortestPathImpl extends AbstractCsrPath<LandmarkGraph> {
+
+    private static final int LANDMARK_COUNT = 8;
+
+    public AltShortestPathImpl() {
+    }
+
+    AltShortestPathImpl(final Executor rebuildExecutor) {
+        super(rebuildExecutor);
+    }
+
+    @Override
+    protected LandmarkGraph prepare(final CsrGraph graph) {
+        return LandmarkGraph.of(graph, LANDMARK_COUNT);
+    }
+
+    @Override
+    protected LandmarkGraph patch(final LandmarkGraph snapshot, final CsrGraph graph) {
+        return snapshot.patch(graph);
+    }
+
+    /**
+     * 하한이 유지되면 덧붙인 행이 쌓였을 때만 다시 계산한다.
+     */
+    @Override
+    protected boolean isOutdated(final LandmarkGraph snapshot) {
+        return !snapshot.isAdmissible() || super.isOutdated(snapshot);
+    }
+
+    @Override
+    protected CsrGraph graphOf(final LandmarkGraph snapshot) {
+        return snapshot.graph();
+    }
+
+    @Override
+    protected PathDto search(final LandmarkGraph landmarkGraph, final int source, final int target) {
+        if (landmarkGraph.isSeparated(source, target)) {
+            throw notConnected();
+        }
+        CsrGraph graph = landmarkGraph.graph();
+        SearchSpace space = DijkstraKernel.localSearchSpace();
+        IndexedDaryHeap heap = space.reset(graph.size()).heap();
+        space.reach(source, 0, NONE);
+        heap.insertOrDecrease(source, landmarkGraph.heuristic(source, target));
+
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            if (node == target) {
+                return new PathDto(space.path(graph, target), space.distance(target));
+            }
+            int distance = space.distance(node);
+            for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+                int next = graph.target(edge);
+                int candidate = distance + graph.weight(edge);
+                if (candidate < space.distance(next)) {
+                    space.reach(next, candidate, node);
+                    heap.insertOrDecrease(next, candidate + landmarkGraph.heuristic(next, target));
+                }
+            }
+        }
+        throw notConnected();
+    }
+}
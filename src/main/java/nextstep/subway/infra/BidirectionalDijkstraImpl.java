@@ -0,0 +1,113 @@
+package nextstep.subway.infra;
+
+import static nextstep.subway.infra.SearchSpace.INFINITY;
+import static nextstep.subway.infra.SearchSpace.NONE;
+
+import java.util.Arrays;
+import java.util.List;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.dto.PathDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구간은 양방향이므로 출발역과 도착역에서 동시에 탐색하여 가운데에서 만난다.
+ * 두 방향의 힙 최솟값 합이 지금까지 찾은 최단 거리 이상이 되면 더 짧은 경로가 없으므로 멈춘다.
+ */
+@ConditionalOnProperty(prefix = "subway.path", name = "engine", havingValue = "bidirectional")
+@Component
+public class BidirectionalDijkstraImpl extends AbstractCsrPath<CsrGraph> {
+
+    private static final ThreadLocal<SearchSpace> BACKWARD_SEARCH_SPACES = ThreadLocal.withInitial(SearchSpace::new);
+
+    @Override
+    protected CsrGraph prepare(final CsrGraph graph) {
+        return graph;
+    }
+
+    @Override
+    protected CsrGraph patch(final CsrGraph snapshot, final CsrGraph graph) {
+        return graph;
+    }
+
+    @Override
+    protected CsrGraph graphOf(final CsrGraph snapshot) {
+        return snapshot;
+    }
+
+    @Override
+    protected PathDto search(final CsrGraph graph, final int source, final int target) {
+        SearchSpace forward = start(DijkstraKernel.localSearchSpace(), graph, source);
+        SearchSpace backward = start(BACKWARD_SEARCH_SPACES.get(), graph, target);
+
+        long best = INFINITY;
+        int meeting = NONE;
+        while (!forward.heap().isEmpty() || !backward.heap().isEmpty()) {
+            long forwardTop = minKey(forward);
+            long backwardTop = minKey(backward);
+            if (forwardTop + backwardTop >= best) {
+                break;
+            }
+            SearchSpace current = forwardTop <= backwardTop ? forward : backward;
+            SearchSpace opposite = current == forward ? backward : forward;
+            int node = current.heap().poll();
+            DijkstraKernel.relax(graph, current, node);
+            for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+                int next = graph.target(edge);
+                if (opposite.isReached(next)) {
+                    long candidate = (long) current.distance(next) + opposite.distance(next);
+                    if (candidate < best) {
+                        best = candidate;
+                        meeting = next;
+                    }
+                }
+            }
+        }
+
+        if (meeting == NONE) {
+            throw notConnected();
+        }
+        return new PathDto(path(graph, forward, backward, meeting), best);
+    }
+
+    private SearchSpace start(final SearchSpace space, final CsrGraph graph, final int vertex) {
+        space.reset(graph.size());
+        space.reach(vertex, 0, NONE);
+        space.heap().insertOrDecrease(vertex, 0);
+        return space;
+    }
+
+    private long minKey(final SearchSpace space) {
+        if (space.heap().isEmpty()) {
+            return INFINITY;
+        }
+        return space.heap().minKey();
+    }
+
+    private List<Station> path(
+            final CsrGraph graph,
+            final SearchSpace forward,
+            final SearchSpace backward,
+            final int meeting
+    ) {
+        int forwardCount = 0;
+        for (int vertex = meeting; vertex != NONE; vertex = forward.predecessor(vertex)) {
+            forwardCount++;
+        }
+        int backwardCount = 0;
+        for (int vertex = backward.predecessor(meeting); vertex != NONE; vertex = backward.predecessor(vertex)) {
+            backwardCount++;
+        }
+
+        Station[] nodes = new Station[forwardCount + backwardCount];
+        int index = forwardCount;
+        for (int vertex = meeting; vertex != NONE; vertex = forward.predecessor(vertex)) {
+            nodes[--index] = graph.station(vertex);
+        }
+        index = forwardCount;
+        for (int vertex = backward.predecessor(meeting); vertex != NONE; vertex = backward.predecessor(vertex)) {
+            nodes[index++] = graph.station(vertex);
+        }
+        return Arrays.asList(nodes);
+    }
+}
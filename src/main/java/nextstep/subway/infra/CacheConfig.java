@@ -0,0 +1,32 @@
+package nextstep.subway.infra;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collections;
+import nextstep.subway.applicaion.GraphBuild;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스프링 캐시는 등록한 graph 캐시 하나뿐이다. 이름이 정해지지 않은 캐시는 만들지 않는다.
+ * 이 빈이 없으면 2차 캐시용 JCache 제공자로 캐시 매니저가 자동 설정되어 graph 캐시를 만들 수 없다.
+ * graph 캐시는 만료 시간이 없다. 값은 그래프가 아니라 그래프를 만들었다는 기록(GraphBuild) 하나이고,
+ * 그래프는 구간 변경마다 갱신되므로 만료시켜도 더 정확해지지 않고 조회 요청이 전체 구간을 다시 읽는 비용만 생긴다.
+ * 그래프 자체는 PathFinder 의 경로 엔진이 들고 있으므로 이 캐시의 크기 제한은 그래프 메모리에 적용되지 않는다.
+ * 경로 조회 결과는 PathResultCache, 역과 노선 엔티티는 application.conf 의 2차 캐시 영역이 크기를 제한한다.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CaffeineCacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(Collections.emptyList());
+        cacheManager.registerCustomCache(GraphBuild.CACHE_NAME, Caffeine.newBuilder()
+                .maximumSize(1)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,126 @@
+package nextstep.subway.infra;
+
+import static nextstep.subway.infra.SearchSpace.NONE;
+
+/**
+ * 축약 계층(Contraction Hierarchies) 스냅샷.
+ * 정점마다 자신보다 순위가 높은 이웃으로 가는 상향 간선만 CSR 로 보관한다.
+ * 지름길 간선은 축약된 가운데 정점(middle)을 기억하므로 원래 구간으로 다시 펼칠 수 있다.
+ * 축약한 뒤 구간이 바뀌면 상향 간선은 바뀐 구간을 모르므로, 다시 축약하기 전까지는 바뀐 그래프만 들고 outdated 로 표시한다.
+ */
+final class ContractionHierarchy {
+
+    private final CsrGraph graph;
+    private final int[] ranks;
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upWeights;
+    private final int[] upMiddles;
+    private final boolean outdated;
+
+    private ContractionHierarchy(
+            final CsrGraph graph,
+            final int[] ranks,
+            final int[] upOffsets,
+            final int[] upTargets,
+            final int[] upWeights,
+            final int[] upMiddles,
+            final boolean outdated
+    ) {
+        this.graph = graph;
+        this.ranks = ranks;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.outdated = outdated;
+    }
+
+    /**
+     * (sources[i] -> targets[i]) 상향 간선 목록을 출발 정점 기준 CSR 로 모은다.
+     */
+    static ContractionHierarchy of(
+            final CsrGraph graph,
+            final int[] ranks,
+            final int[] sources,
+            final int[] targets,
+            final int[] weights,
+            final int[] middles
+    ) {
+        int size = graph.size();
+        int[] offsets = new int[size + 1];
+        for (int source : sources) {
+            offsets[source + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] upTargets = new int[sources.length];
+        int[] upWeights = new int[sources.length];
+        int[] upMiddles = new int[sources.length];
+        int[] cursor = new int[size];
+        System.arraycopy(offsets, 0, cursor, 0, size);
+        for (int arc = 0; arc < sources.length; arc++) {
+            int position = cursor[sources[arc]]++;
+            upTargets[position] = targets[arc];
+            upWeights[position] = weights[arc];
+            upMiddles[position] = middles[arc];
+        }
+        return new ContractionHierarchy(graph, ranks, offsets, upTargets, upWeights, upMiddles, false);
+    }
+
+    ContractionHierarchy outdatedBy(final CsrGraph changed) {
+        return new ContractionHierarchy(changed, ranks, upOffsets, upTargets, upWeights, upMiddles, true);
+    }
+
+    CsrGraph graph() {
+        return graph;
+    }
+
+    boolean isOutdated() {
+        return outdated;
+    }
+
+    int rank(final int vertex) {
+        return ranks[vertex];
+    }
+
+    int arcCount() {
+        return upTargets.length;
+    }
+
+    int upStart(final int vertex) {
+        return upOffsets[vertex];
+    }
+
+    int upEnd(final int vertex) {
+        return upOffsets[vertex + 1];
+    }
+
+    int upTarget(final int arc) {
+        return upTargets[arc];
+    }
+
+    int upWeight(final int arc) {
+        return upWeights[arc];
+    }
+
+    int upMiddle(final int arc) {
+        return upMiddles[arc];
+    }
+
+    /**
+     * 두 정점 사이 간선은 순위가 낮은 쪽의 상향 간선 목록에 하나만 있다. 원래 구간이면 NONE 을 반환한다.
+     */
+    int middle(final int from, final int to) {
+        int lower = ranks[from] < ranks[to] ? from : to;
+        int higher = lower == from ? to : from;
+        for (int arc = upStart(lower); arc < upEnd(lower); arc++) {
+            if (upTargets[arc] == higher) {
+                return upMiddles[arc];
+            }
+        }
+        return NONE;
+    }
+}
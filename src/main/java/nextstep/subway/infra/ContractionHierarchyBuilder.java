@@ -0,0 +1,176 @@
+package nextstep.subway.infra;
+
+import static nextstep.subway.infra.SearchSpace.NONE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정점을 중요도가 낮은 순서로 하나씩 축약하며 축약 계층을 만든다.
+ * 중요도는 (추가될 지름길 수 - 남은 차수 + 이미 축약된 이웃 수) 이며, 꺼낼 때 다시 계산하는 지연 갱신을 쓴다.
+ */
+final class ContractionHierarchyBuilder {
+
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final CsrGraph graph;
+    private final List<Map<Integer, Arc>> adjacency;
+    private final int[] contractedNeighbors;
+    private final int[] ranks;
+    private final SearchSpace witness = new SearchSpace();
+
+    private final IntArrayList arcSources = new IntArrayList();
+    private final IntArrayList arcTargets = new IntArrayList();
+    private final IntArrayList arcWeights = new IntArrayList();
+    private final IntArrayList arcMiddles = new IntArrayList();
+
+    private ContractionHierarchyBuilder(final CsrGraph graph) {
+        this.graph = graph;
+        this.adjacency = new ArrayList<>(graph.size());
+        this.contractedNeighbors = new int[graph.size()];
+        this.ranks = new int[graph.size()];
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            Map<Integer, Arc> arcs = new HashMap<>();
+            for (int edge = graph.edgeStart(vertex); edge < graph.edgeEnd(vertex); edge++) {
+                int next = graph.target(edge);
+                if (next != vertex) {
+                    arcs.merge(next, new Arc(graph.weight(edge), NONE), Arc::shorter);
+                }
+            }
+            adjacency.add(arcs);
+        }
+    }
+
+    static ContractionHierarchy contract(final CsrGraph graph) {
+        return new ContractionHierarchyBuilder(graph).contractAll();
+    }
+
+    private ContractionHierarchy contractAll() {
+        IndexedDaryHeap queue = new IndexedDaryHeap();
+        queue.ensureCapacity(graph.size());
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            queue.insertOrDecrease(vertex, priority(vertex));
+        }
+
+        int rank = 0;
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            int priority = priority(vertex);
+            if (!queue.isEmpty() && priority > queue.minKey()) {
+                queue.insertOrDecrease(vertex, priority);
+                continue;
+            }
+            contract(vertex);
+            ranks[vertex] = rank++;
+        }
+
+        return ContractionHierarchy.of(
+                graph,
+                ranks,
+                arcSources.toArray(),
+                arcTargets.toArray(),
+                arcWeights.toArray(),
+                arcMiddles.toArray()
+        );
+    }
+
+    private int priority(final int vertex) {
+        return shortcuts(vertex).size() - adjacency.get(vertex).size() + contractedNeighbors[vertex];
+    }
+
+    /**
+     * 정점을 축약하면 남은 이웃 쌍 (u, x) 사이에 필요한 지름길 목록. 정점을 거치지 않는 더 짧거나 같은 경로(witness)가 있으면 생략한다.
+     */
+    private List<int[]> shortcuts(final int vertex) {
+        Map<Integer, Arc> arcs = adjacency.get(vertex);
+        int[] neighbors = arcs.keySet().stream().mapToInt(Integer::intValue).toArray();
+        int maxOutgoing = arcs.values().stream().mapToInt(arc -> arc.weight).max().orElse(0);
+
+        List<int[]> shortcuts = new ArrayList<>();
+        for (int i = 0; i < neighbors.length; i++) {
+            int from = neighbors[i];
+            int toVertex = arcs.get(from).weight;
+            witnessSearch(from, vertex, toVertex + maxOutgoing);
+            for (int j = i + 1; j < neighbors.length; j++) {
+                int to = neighbors[j];
+                int viaVertex = toVertex + arcs.get(to).weight;
+                if (witness.distance(to) > viaVertex) {
+                    shortcuts.add(new int[]{from, to, viaVertex});
+                }
+            }
+        }
+        return shortcuts;
+    }
+
+    private void witnessSearch(final int source, final int excluded, final int limit) {
+        IndexedDaryHeap heap = witness.reset(graph.size()).heap();
+        witness.reach(source, 0, NONE);
+        heap.insertOrDecrease(source, 0);
+        int settled = 0;
+        while (!heap.isEmpty() && heap.minKey() <= limit && settled++ < WITNESS_SETTLE_LIMIT) {
+            int node = heap.poll();
+            int distance = witness.distance(node);
+            for (Map.Entry<Integer, Arc> entry : adjacency.get(node).entrySet()) {
+                int next = entry.getKey();
+                int candidate = distance + entry.getValue().weight;
+                if (next != excluded && candidate < witness.distance(next)) {
+                    witness.reach(next, candidate, node);
+                    heap.insertOrDecrease(next, candidate);
+                }
+            }
+        }
+    }
+
+    private void contract(final int vertex) {
+        List<int[]> shortcuts = shortcuts(vertex);
+        Map<Integer, Arc> arcs = adjacency.get(vertex);
+        for (Map.Entry<Integer, Arc> entry : arcs.entrySet()) {
+            int neighbor = entry.getKey();
+            arcSources.add(vertex);
+            arcTargets.add(neighbor);
+            arcWeights.add(entry.getValue().weight);
+            arcMiddles.add(entry.getValue().middle);
+            adjacency.get(neighbor).remove(vertex);
+            contractedNeighbors[neighbor]++;
+        }
+        for (int[] shortcut : shortcuts) {
+            Arc arc = new Arc(shortcut[2], vertex);
+            adjacency.get(shortcut[0]).merge(shortcut[1], arc, Arc::shorter);
+            adjacency.get(shortcut[1]).merge(shortcut[0], arc, Arc::shorter);
+        }
+        arcs.clear();
+    }
+
+    private static final class Arc {
+        private final int weight;
+        private final int middle;
+
+        private Arc(final int weight, final int middle) {
+            this.weight = weight;
+            this.middle = middle;
+        }
+
+        private static Arc shorter(final Arc existing, final Arc candidate) {
+            return candidate.weight < existing.weight ? candidate : existing;
+        }
+    }
+
+    private static final class IntArrayList {
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package nextstep.subway.infra;
+
+import static nextstep.subway.infra.SearchSpace.INFINITY;
+import static nextstep.subway.infra.SearchSpace.NONE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.dto.PathDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 축약 계층 위에서 양쪽 모두 순위가 높아지는 방향으로만 탐색하고, 만난 경로의 지름길을 원래 구간으로 펼친다.
+ * subway.path.ch.store 에 파일 경로를 지정하면 구간이 바뀌지 않은 재시작에서는 전처리를 다시 하지 않는다.
+ * 구간이 바뀌면 다시 축약하는 동안 바뀐 그래프 위의 다익스트라로 찾는다.
+ */
+@ConditionalOnProperty(prefix = "subway.path", name = "engine", havingValue = "ch")
+@Component
+public class ContractionHierarchyImpl extends AbstractCsrPath<ContractionHierarchy> {
+
+    private static final ThreadLocal<SearchSpace> BACKWARD_SEARCH_SPACES = ThreadLocal.withInitial(SearchSpace::new);
+
+    private final ContractionHierarchyStore store;
+
+    public ContractionHierarchyImpl() {
+        this("");
+    }
+
+    @Autowired
+    public ContractionHierarchyImpl(@Value("${subway.path.ch.store:}") final String storeLocation) {
+        this.store = new ContractionHierarchyStore(storeLocation);
+    }
+
+    ContractionHierarchyImpl(final String storeLocation, final Executor rebuildExecutor) {
+        super(rebuildExecutor);
+        this.store = new ContractionHierarchyStore(storeLocation);
+    }
+
+    @Override
+    protected ContractionHierarchy prepare(final CsrGraph graph) {
+        return store.load(graph).orElseGet(() -> {
+            ContractionHierarchy hierarchy = ContractionHierarchyBuilder.contract(graph);
+            store.save(hierarchy);
+            return hierarchy;
+        });
+    }
+
+    @Override
+    protected ContractionHierarchy patch(final ContractionHierarchy snapshot, final CsrGraph graph) {
+        return snapshot.outdatedBy(graph);
+    }
+
+    @Override
+    protected boolean isOutdated(final ContractionHierarchy snapshot) {
+        return snapshot.isOutdated();
+    }
+
+    @Override
+    protected CsrGraph graphOf(final ContractionHierarchy snapshot) {
+        return snapshot.graph();
+    }
+
+    @Override
+    protected PathDto search(final ContractionHierarchy hierarchy, final int source, final int target) {
+        if (hierarchy.isOutdated()) {
+            return searchWithoutShortcuts(hierarchy.graph(), source, target);
+        }
+        SearchSpace forward = start(DijkstraKernel.localSearchSpace(), hierarchy, source);
+        SearchSpace backward = start(BACKWARD_SEARCH_SPACES.get(), hierarchy, target);
+
+        long best = INFINITY;
+        int meeting = NONE;
+        while (true) {
+            long forwardTop = minKey(forward);
+            long backwardTop = minKey(backward);
+            if (forwardTop >= best && backwardTop >= best) {
+                break;
+            }
+            SearchSpace current = forwardTop <= backwardTop ? forward : backward;
+            SearchSpace opposite = current == forward ? backward : forward;
+            int node = current.heap().poll();
+            if (opposite.isReached(node)) {
+                long candidate = (long) current.distance(node) + opposite.distance(node);
+                if (candidate < best) {
+                    best = candidate;
+                    meeting = node;
+                }
+            }
+            relaxUpward(hierarchy, current, node);
+        }
+
+        if (meeting == NONE) {
+            throw notConnected();
+        }
+        return new PathDto(unpack(hierarchy, forward, backward, meeting), best);
+    }
+
+    private PathDto searchWithoutShortcuts(final CsrGraph graph, final int source, final int target) {
+        SearchSpace space = DijkstraKernel.localSearchSpace();
+        int distance = DijkstraKernel.shortestDistance(graph, space, source, target);
+        if (distance == INFINITY) {
+            throw notConnected();
+        }
+        return new PathDto(space.path(graph, target), distance);
+    }
+
+    private SearchSpace start(final SearchSpace space, final ContractionHierarchy hierarchy, final int vertex) {
+        space.reset(hierarchy.graph().size());
+        space.reach(vertex, 0, NONE);
+        space.heap().insertOrDecrease(vertex, 0);
+        return space;
+    }
+
+    private long minKey(final SearchSpace space) {
+        if (space.heap().isEmpty()) {
+            return INFINITY;
+        }
+        return space.heap().minKey();
+    }
+
+    private void relaxUpward(final ContractionHierarchy hierarchy, final SearchSpace space, final int node) {
+        int distance = space.distance(node);
+        for (int arc = hierarchy.upStart(node); arc < hierarchy.upEnd(node); arc++) {
+            int next = hierarchy.upTarget(arc);
+            int candidate = distance + hierarchy.upWeight(arc);
+            if (candidate < space.distance(next)) {
+                space.reach(next, candidate, node);
+                space.heap().insertOrDecrease(next, candidate);
+            }
+        }
+    }
+
+    /**
+     * 출발역 - 만난 정점 - 도착역 순서의 상향 경로를 만든 뒤, 각 간선을 가운데 정점으로 재귀 없이 펼친다.
+     */
+    private List<Station> unpack(
+            final ContractionHierarchy hierarchy,
+            final SearchSpace forward,
+            final SearchSpace backward,
+            final int meeting
+    ) {
+        IntList route = new IntList();
+        for (int vertex = meeting; vertex != NONE; vertex = forward.predecessor(vertex)) {
+            route.add(vertex);
+        }
+        route.reverse();
+        for (int vertex = backward.predecessor(meeting); vertex != NONE; vertex = backward.predecessor(vertex)) {
+            route.add(vertex);
+        }
+
+        IntList nodes = new IntList();
+        IntList pending = new IntList();
+        nodes.add(route.get(0));
+        for (int i = 1; i < route.size(); i++) {
+            pending.add(route.get(i - 1));
+            pending.add(route.get(i));
+            while (pending.size() > 0) {
+                int to = pending.pop();
+                int from = pending.pop();
+                int middle = hierarchy.middle(from, to);
+                if (middle == NONE) {
+                    nodes.add(to);
+                    continue;
+                }
+                pending.add(middle);
+                pending.add(to);
+                pending.add(from);
+                pending.add(middle);
+            }
+        }
+
+        Station[] stations = new Station[nodes.size()];
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = hierarchy.graph().station(nodes.get(i));
+        }
+        return Arrays.asList(stations);
+    }
+
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int get(final int index) {
+            return values[index];
+        }
+
+        private int pop() {
+            return values[--size];
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void reverse() {
+            for (int left = 0, right = size - 1; left < right; left++, right--) {
+                int value = values[left];
+                values[left] = values[right];
+                values[right] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package nextstep.subway.infra;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 축약 계층을 파일로 저장하고 읽는다. 파일에는 구간 목록의 지문(fingerprint)을 함께 기록하여,
+ * 재시작 시 구간이 그대로일 때만 전처리를 건너뛴다. 경로가 비어있으면 저장하지 않는다.
+ */
+final class ContractionHierarchyStore {
+    private static final Logger logger = LoggerFactory.getLogger(ContractionHierarchyStore.class);
+
+    private static final int MAGIC = 0x43485331;
+    private static final int NOT_EXIST = -1;
+    private static final int ARC_BYTES = Integer.BYTES * 4;
+
+    private final java.nio.file.Path file;
+
+    ContractionHierarchyStore(final String location) {
+        this.file = location == null || location.isBlank() ? null : Paths.get(location);
+    }
+
+    Optional<ContractionHierarchy> load(final CsrGraph graph) {
+        if (file == null || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || !in.readUTF().equals(fingerprint(graph))) {
+                return Optional.empty();
+            }
+            return Optional.of(read(in, graph, Files.size(file)));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("축약 계층 파일을 읽지 못해 다시 계산합니다. {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void save(final ContractionHierarchy hierarchy) {
+        if (file == null) {
+            return;
+        }
+        CsrGraph graph = hierarchy.graph();
+        java.nio.file.Path temporary = null;
+        try {
+            java.nio.file.Path directory = Files.createDirectories(file.toAbsolutePath().getParent());
+            temporary = Files.createTempFile(directory, "ch", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeUTF(fingerprint(graph));
+                write(out, hierarchy);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("축약 계층 파일을 저장하지 못했습니다. {}", e.getMessage());
+            deleteQuietly(temporary);
+        }
+    }
+
+    private void deleteQuietly(final java.nio.file.Path temporary) {
+        if (temporary == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            logger.warn("축약 계층 임시 파일을 지우지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    private void write(final DataOutputStream out, final ContractionHierarchy hierarchy) throws IOException {
+        CsrGraph graph = hierarchy.graph();
+        out.writeInt(graph.size());
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            out.writeLong(graph.station(vertex).getId());
+            out.writeInt(hierarchy.rank(vertex));
+        }
+        out.writeInt(hierarchy.arcCount());
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            for (int arc = hierarchy.upStart(vertex); arc < hierarchy.upEnd(vertex); arc++) {
+                out.writeInt(vertex);
+                out.writeInt(hierarchy.upTarget(arc));
+                out.writeInt(hierarchy.upWeight(arc));
+                out.writeInt(hierarchy.upMiddle(arc));
+            }
+        }
+    }
+
+    /**
+     * 저장 당시의 정점 번호는 역 id 를 거쳐 현재 그래프의 정점 번호로 바꾼다.
+     * 잘렸거나 다른 빌드가 쓴 파일일 수 있으므로 간선 수와 정점 번호는 읽은 값을 그대로 믿지 않고 범위를 확인한다.
+     */
+    private ContractionHierarchy read(final DataInputStream in, final CsrGraph graph, final long fileSize) throws IOException {
+        int size = in.readInt();
+        if (size != graph.size()) {
+            throw new IllegalStateException("정점 수가 다릅니다.");
+        }
+        int[] indexes = new int[size];
+        int[] ranks = new int[size];
+        for (int stored = 0; stored < size; stored++) {
+            indexes[stored] = graph.indexOf(in.readLong());
+            if (indexes[stored] == NOT_EXIST) {
+                throw new IllegalStateException("존재하지 않는 역이 있습니다.");
+            }
+            ranks[indexes[stored]] = in.readInt();
+        }
+
+        int arcCount = in.readInt();
+        if (arcCount < 0 || arcCount > fileSize / ARC_BYTES) {
+            throw new IllegalStateException("간선 수가 올바르지 않습니다.");
+        }
+        int[] sources = new int[arcCount];
+        int[] targets = new int[arcCount];
+        int[] weights = new int[arcCount];
+        int[] middles = new int[arcCount];
+        for (int arc = 0; arc < arcCount; arc++) {
+            sources[arc] = vertex(indexes, in.readInt());
+            targets[arc] = vertex(indexes, in.readInt());
+            weights[arc] = in.readInt();
+            int middle = in.readInt();
+            middles[arc] = middle == SearchSpace.NONE ? SearchSpace.NONE : vertex(indexes, middle);
+        }
+        return ContractionHierarchy.of(graph, ranks, sources, targets, weights, middles);
+    }
+
+    private int vertex(final int[] indexes, final int stored) {
+        if (stored < 0 || stored >= indexes.length) {
+            throw new IllegalStateException("정점 번호가 범위를 벗어났습니다.");
+        }
+        return indexes[stored];
+    }
+
+    /**
+     * 정점 번호나 노선 조회 순서와 무관하도록 (작은 역 id, 큰 역 id, 거리) 목록을 정렬하여 해시한다.
+     */
+    static String fingerprint(final CsrGraph graph) {
+        List<long[]> edges = new ArrayList<>();
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            long id = graph.station(vertex).getId();
+            for (int edge = graph.edgeStart(vertex); edge < graph.edgeEnd(vertex); edge++) {
+                long nextId = graph.station(graph.target(edge)).getId();
+                if (id <= nextId) {
+                    edges.add(new long[]{id, nextId, graph.weight(edge)});
+                }
+            }
+        }
+        edges.sort((left, right) -> {
+            for (int i = 0; i < left.length; i++) {
+                int compared = Long.compare(left[i], right[i]);
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return 0;
+        });
+
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 3);
+        for (long[] edge : edges) {
+            buffer.clear();
+            buffer.putLong(edge[0]).putLong(edge[1]).putLong(edge[2]);
+            digest.update(buffer.array());
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte value : digest.digest()) {
+            hex.append(String.format("%02x", value));
+        }
+        return hex.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package nextstep.subway.infra;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import nextstep.subway.domain.GraphSource;
+import nextstep.subway.domain.SectionsChangedEvent;
+import nextstep.subway.domain.Station;
+
+/**
+ * 역 id 를 0부터 시작하는 정수로 바꾸고 인접 목록을 CSR(offsets / targets / weights) 배열로 보관하는 불변 그래프.
+ * 정점 i 의 이웃은 edgeStart(i) 부터 edgeEnd(i) - 1 까지의 간선이다.
+ * 구간 변경은 배열을 다시 만들지 않고, 바뀐 정점의 행만 새로 써서 patch 에 덧붙인다. 덧붙인 행은 compact 에서 배열로 합친다.
+ */
+final class CsrGraph {
+
+    private static final int NOT_EXIST = -1;
+
+    private final SectionEdges edges;
+    private final Map<Long, Integer> indexes;
+    private final Station[] stations;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final Patch patch;
+
+    private CsrGraph(
+            final SectionEdges edges,
+            final Map<Long, Integer> indexes,
+            final Station[] stations,
+            final int[] offsets,
+            final int[] targets,
+            final int[] weights,
+            final Patch patch
+    ) {
+        this.edges = edges;
+        this.indexes = indexes;
+        this.stations = stations;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.patch = patch;
+    }
+
+    static CsrGraph from(final GraphSource source) {
+        return from(SectionEdges.from(source));
+    }
+
+    static CsrGraph from(final SectionEdges sectionEdges) {
+        SectionEdges edges = sectionEdges.compact();
+        Map<Long, Integer> indexes = new HashMap<>();
+        List<Station> stations = new ArrayList<>();
+        for (SectionEdge edge : edges.values()) {
+            register(indexes, stations, edge.getUpStation());
+            register(indexes, stations, edge.getDownStation());
+        }
+
+        int size = stations.size();
+        int[] offsets = new int[size + 1];
+        for (SectionEdge edge : edges.values()) {
+            offsets[indexes.get(edge.getUpStation().getId()) + 1]++;
+            offsets[indexes.get(edge.getDownStation().getId()) + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[offsets[size]];
+        int[] weights = new int[offsets[size]];
+        int[] cursor = new int[size];
+        System.arraycopy(offsets, 0, cursor, 0, size);
+        for (SectionEdge edge : edges.values()) {
+            int up = indexes.get(edge.getUpStation().getId());
+            int down = indexes.get(edge.getDownStation().getId());
+            int distance = edge.getDistance();
+            targets[cursor[up]] = down;
+            weights[cursor[up]++] = distance;
+            targets[cursor[down]] = up;
+            weights[cursor[down]++] = distance;
+        }
+
+        return new CsrGraph(
+                edges,
+                Collections.unmodifiableMap(indexes),
+                stations.toArray(Station[]::new),
+                offsets,
+                targets,
+                weights,
+                null
+        );
+    }
+
+    /**
+     * 구간 변경 이벤트를 반영한 새 그래프. 데이터베이스를 다시 읽지 않고, 빠지거나 들어온 구간이 닿은 정점의 행만 새로 쓴다.
+     * 처음 보는 역은 기존 정점 뒤에 번호를 붙이므로 기존 정점 번호는 바뀌지 않는다.
+     * 비용은 지금까지 덧붙인 행의 간선 수에 비례하므로, 행이 쌓이면 compact 로 합친다.
+     */
+    CsrGraph apply(final SectionsChangedEvent event) {
+        SectionEdges.Delta delta = edges.delta(event);
+        if (delta.removed().isEmpty() && delta.added().isEmpty()) {
+            return new CsrGraph(delta.edges(), indexes, stations, offsets, targets, weights, patch);
+        }
+        Map<Long, Integer> addedIndexes = new HashMap<>(patch == null ? Map.of() : patch.addedIndexes);
+        List<Station> addedStations = new ArrayList<>(patch == null ? List.of() : Arrays.asList(patch.addedStations));
+        Map<Integer, Row> rows = new HashMap<>();
+        for (SectionEdge edge : delta.removed()) {
+            int up = vertexOf(edge.getUpStation().getId(), addedIndexes);
+            int down = vertexOf(edge.getDownStation().getId(), addedIndexes);
+            rowOf(rows, up).remove(down, edge.getDistance());
+            rowOf(rows, down).remove(up, edge.getDistance());
+        }
+        for (SectionEdge edge : delta.added()) {
+            int up = register(edge.getUpStation(), addedIndexes, addedStations);
+            int down = register(edge.getDownStation(), addedIndexes, addedStations);
+            rowOf(rows, up).add(down, edge.getDistance());
+            rowOf(rows, down).add(up, edge.getDistance());
+        }
+        Patch patched = Patch.of(
+                this,
+                rows,
+                Collections.unmodifiableMap(addedIndexes),
+                addedStations.toArray(Station[]::new)
+        );
+        return new CsrGraph(delta.edges(), indexes, stations, offsets, targets, weights, patched);
+    }
+
+    /**
+     * 덧붙인 행을 배열로 합친 그래프. 구간 수에 비례하므로 조회 경로가 아닌 곳에서 부른다.
+     */
+    CsrGraph compact() {
+        if (patch == null) {
+            return this;
+        }
+        return from(edges);
+    }
+
+    int patchedSize() {
+        if (patch == null) {
+            return 0;
+        }
+        return patch.vertices.length;
+    }
+
+    /**
+     * 행을 새로 쓴 정점. 오름차순이다.
+     */
+    int[] patchedVertices() {
+        if (patch == null) {
+            return new int[0];
+        }
+        return patch.vertices.clone();
+    }
+
+    private int vertexOf(final Long stationId, final Map<Long, Integer> addedIndexes) {
+        Integer index = indexes.get(stationId);
+        if (index != null) {
+            return index;
+        }
+        return addedIndexes.getOrDefault(stationId, NOT_EXIST);
+    }
+
+    private int register(final Station station, final Map<Long, Integer> addedIndexes, final List<Station> addedStations) {
+        int index = vertexOf(station.getId(), addedIndexes);
+        if (index != NOT_EXIST) {
+            return index;
+        }
+        index = stations.length + addedStations.size();
+        addedIndexes.put(station.getId(), index);
+        addedStations.add(station);
+        return index;
+    }
+
+    private Row rowOf(final Map<Integer, Row> rows, final int vertex) {
+        return rows.computeIfAbsent(vertex, key -> {
+            Row row = new Row();
+            if (key < size()) {
+                for (int edge = edgeStart(key); edge < edgeEnd(key); edge++) {
+                    row.add(target(edge), weight(edge));
+                }
+            }
+            return row;
+        });
+    }
+
+    private static void register(final Map<Long, Integer> indexes, final List<Station> stations, final Station station) {
+        if (indexes.putIfAbsent(station.getId(), stations.size()) == null) {
+            stations.add(station);
+        }
+    }
+
+    int indexOf(final Station station) {
+        return indexOf(station.getId());
+    }
+
+    /**
+     * 구간이 모두 빠져 이웃이 없는 정점은 그래프에 없는 역으로 본다.
+     */
+    int indexOf(final Long stationId) {
+        if (patch == null) {
+            return indexes.getOrDefault(stationId, NOT_EXIST);
+        }
+        int index = vertexOf(stationId, patch.addedIndexes);
+        if (index == NOT_EXIST || edgeStart(index) == edgeEnd(index)) {
+            return NOT_EXIST;
+        }
+        return index;
+    }
+
+    boolean contains(final int index) {
+        return index != NOT_EXIST;
+    }
+
+    int size() {
+        if (patch == null) {
+            return stations.length;
+        }
+        return stations.length + patch.addedStations.length;
+    }
+
+    Station station(final int index) {
+        if (index < stations.length) {
+            return stations[index];
+        }
+        return patch.addedStations[index - stations.length];
+    }
+
+    int edgeStart(final int index) {
+        if (patch == null) {
+            return offsets[index];
+        }
+        int row = patch.rowOf(index);
+        return row == NOT_EXIST ? offsets[index] : patch.starts[row];
+    }
+
+    int edgeEnd(final int index) {
+        if (patch == null) {
+            return offsets[index + 1];
+        }
+        int row = patch.rowOf(index);
+        return row == NOT_EXIST ? offsets[index + 1] : patch.ends[row];
+    }
+
+    int target(final int edge) {
+        if (edge < targets.length) {
+            return targets[edge];
+        }
+        return patch.targets[edge - targets.length];
+    }
+
+    int weight(final int edge) {
+        if (edge < weights.length) {
+            return weights[edge];
+        }
+        return patch.weights[edge - weights.length];
+    }
+
+    /**
+     * 정점 하나의 이웃 목록을 고쳐 쓰는 작업 공간.
+     */
+    private static final class Row {
+        private int[] targets = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        private void add(final int target, final int weight) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            targets[size] = target;
+            weights[size++] = weight;
+        }
+
+        /**
+         * 같은 이웃과 같은 거리의 간선은 서로 구분하지 않으므로 하나만 뺀다.
+         */
+        private void remove(final int target, final int weight) {
+            for (int i = 0; i < size; i++) {
+                if (targets[i] == target && weights[i] == weight) {
+                    targets[i] = targets[--size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 새로 쓴 행과 새로 생긴 정점. 행은 정점 번호 오름차순으로 이어 붙이고, 간선 번호는 원래 배열 뒤에 이어서 매긴다.
+     * 새로 생긴 정점은 모두 행을 가진다.
+     */
+    private static final class Patch {
+        private final Map<Long, Integer> addedIndexes;
+        private final Station[] addedStations;
+        private final int[] vertices;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] targets;
+        private final int[] weights;
+
+        private Patch(
+                final Map<Long, Integer> addedIndexes,
+                final Station[] addedStations,
+                final int[] vertices,
+                final int[] starts,
+                final int[] ends,
+                final int[] targets,
+                final int[] weights
+        ) {
+            this.addedIndexes = addedIndexes;
+            this.addedStations = addedStations;
+            this.vertices = vertices;
+            this.starts = starts;
+            this.ends = ends;
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        /**
+         * 이전 그래프의 덧붙인 행 중 이번에 고치지 않은 행은 그대로 옮기고, 고친 행은 새 행으로 바꾼다.
+         */
+        private static Patch of(
+                final CsrGraph previous,
+                final Map<Integer, Row> rows,
+                final Map<Long, Integer> addedIndexes,
+                final Station[] addedStations
+        ) {
+            TreeSet<Integer> patched = new TreeSet<>(rows.keySet());
+            for (int vertex : previous.patchedVertices()) {
+                patched.add(vertex);
+            }
+            int[] vertices = patched.stream().mapToInt(Integer::intValue).toArray();
+            int edgeCount = 0;
+            for (int vertex : vertices) {
+                Row row = rows.get(vertex);
+                edgeCount += row != null ? row.size : previous.edgeEnd(vertex) - previous.edgeStart(vertex);
+            }
+
+            int base = previous.targets.length;
+            int[] starts = new int[vertices.length];
+            int[] ends = new int[vertices.length];
+            int[] targets = new int[edgeCount];
+            int[] weights = new int[edgeCount];
+            int cursor = 0;
+            for (int i = 0; i < vertices.length; i++) {
+                starts[i] = base + cursor;
+                Row row = rows.get(vertices[i]);
+                if (row != null) {
+                    System.arraycopy(row.targets, 0, targets, cursor, row.size);
+                    System.arraycopy(row.weights, 0, weights, cursor, row.size);
+                    cursor += row.size;
+                } else {
+                    for (int edge = previous.edgeStart(vertices[i]); edge < previous.edgeEnd(vertices[i]); edge++) {
+                        targets[cursor] = previous.target(edge);
+                        weights[cursor++] = previous.weight(edge);
+                    }
+                }
+                ends[i] = base + cursor;
+            }
+            return new Patch(addedIndexes, addedStations, vertices, starts, ends, targets, weights);
+        }
+
+        private int rowOf(final int vertex) {
+            int row = Arrays.binarySearch(vertices, vertex);
+            return row < 0 ? NOT_EXIST : row;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package nextstep.subway.infra;
+
+import nextstep.subway.domain.dto.PathDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도착역을 확정할 때까지 다익스트라로 탐색한다. 도착역과 관계없이 넓게 퍼지므로 자주 쓰이는 출발역은 최단 경로 트리를 보관한다.
+ * subway.path.tree.hot-source-threshold 번 조회된 출발역부터 보관하고, 0 이면 보관하지 않는다.
+ */
+@ConditionalOnProperty(prefix = "subway.path", name = "engine", havingValue = "csr", matchIfMissing = true)
+@Component
+public class CsrShortestPathImpl extends AbstractCsrPath<CsrGraph> {
+
+    public CsrShortestPathImpl() {
+        this(ShortestPathTreeCache.DEFAULT_HOT_SOURCE_THRESHOLD);
+    }
+
+    @Autowired
+    public CsrShortestPathImpl(@Value("${subway.path.tree.hot-source-threshold:3}") final int hotSourceThreshold) {
+        super(hotSourceThreshold);
+    }
+
+    @Override
+    protected CsrGraph prepare(final CsrGraph graph) {
+        return graph;
+    }
+
+    @Override
+    protected CsrGraph patch(final CsrGraph snapshot, final CsrGraph graph) {
+        return graph;
+    }
+
+    @Override
+    protected CsrGraph graphOf(final CsrGraph snapshot) {
+        return snapshot;
+    }
+
+    @Override
+    protected PathDto search(final CsrGraph graph, final int source, final int target) {
+        SearchSpace space = DijkstraKernel.localSearchSpace();
+        int distance = DijkstraKernel.shortestDistance(graph, space, source, target);
+        if (distance == SearchSpace.INFINITY) {
+            throw notConnected();
+        }
+        return new PathDto(space.path(graph, target), distance);
+    }
+}
@@ -0,0 +1,128 @@
+package nextstep.subway.infra;
+
+import static nextstep.subway.infra.SearchSpace.INFINITY;
+import static nextstep.subway.infra.SearchSpace.NONE;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * CSR 그래프 위의 단방향 다익스트라. 스레드마다 하나의 작업 공간을 재사용하므로 탐색 중에는 객체를 만들지 않는다.
+ */
+final class DijkstraKernel {
+
+    private static final ThreadLocal<SearchSpace> SEARCH_SPACES = ThreadLocal.withInitial(SearchSpace::new);
+
+    private DijkstraKernel() {
+    }
+
+    static SearchSpace localSearchSpace() {
+        return SEARCH_SPACES.get();
+    }
+
+    /**
+     * 도착 정점이 확정되면 멈추고 그 거리를 반환한다. 도달할 수 없으면 INFINITY 를 반환한다.
+     */
+    static int shortestDistance(final CsrGraph graph, final SearchSpace space, final int source, final int target) {
+        IndexedDaryHeap heap = space.reset(graph.size()).heap();
+        space.reach(source, 0, NONE);
+        heap.insertOrDecrease(source, 0);
+
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            if (node == target) {
+                return space.distance(target);
+            }
+            relax(graph, space, node);
+        }
+        return INFINITY;
+    }
+
+    /**
+     * 도착 정점이 모두 확정되면 멈추고 targets 순서대로 거리를 반환한다. 경로는 만들지 않는다.
+     * 그래프에 없는 정점(NOT_EXIST)이나 닿지 않는 정점은 INFINITY 이다.
+     */
+    static int[] distancesTo(final CsrGraph graph, final SearchSpace space, final int source, final int[] targets) {
+        int[] distances = new int[targets.length];
+        Arrays.fill(distances, INFINITY);
+        if (!graph.contains(source)) {
+            return distances;
+        }
+        IndexedDaryHeap heap = space.reset(graph.size()).heap();
+        int remaining = 0;
+        for (int target : targets) {
+            if (graph.contains(target) && space.mark(target)) {
+                remaining++;
+            }
+        }
+        space.reach(source, 0, NONE);
+        heap.insertOrDecrease(source, 0);
+
+        while (!heap.isEmpty() && remaining > 0) {
+            int node = heap.poll();
+            if (space.isMarked(node)) {
+                remaining--;
+            }
+            relax(graph, space, node);
+        }
+
+        for (int i = 0; i < targets.length; i++) {
+            if (graph.contains(targets[i])) {
+                distances[i] = space.distance(targets[i]);
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * 가까운 정점부터 확정하며 visitor 에 넘기고, 힙의 최솟값이 budget 을 넘으면 멈춘다.
+     * 작업 공간은 세대 번호로 비우므로 비용은 그래프 전체가 아니라 닿은 영역에 비례한다.
+     */
+    static void settleWithin(
+            final CsrGraph graph,
+            final SearchSpace space,
+            final int source,
+            final int budget,
+            final IntConsumer visitor
+    ) {
+        IndexedDaryHeap heap = space.reset(graph.size()).heap();
+        space.reach(source, 0, NONE);
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty() && heap.minKey() <= budget) {
+            int node = heap.poll();
+            visitor.accept(node);
+            relax(graph, space, node);
+        }
+    }
+
+    /**
+     * 출발 정점에서 닿는 모든 정점까지의 거리를 새 배열로 반환한다. 닿지 않는 정점은 INFINITY 이다.
+     */
+    static int[] distancesFrom(final CsrGraph graph, final int source) {
+        SearchSpace space = localSearchSpace();
+        IndexedDaryHeap heap = space.reset(graph.size()).heap();
+        space.reach(source, 0, NONE);
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            relax(graph, space, heap.poll());
+        }
+
+        int[] distances = new int[graph.size()];
+        for (int vertex = 0; vertex < distances.length; vertex++) {
+            distances[vertex] = space.distance(vertex);
+        }
+        return distances;
+    }
+
+    static void relax(final CsrGraph graph, final SearchSpace space, final int node) {
+        int distance = space.distance(node);
+        for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+            int next = graph.target(edge);
+            int candidate = distance + graph.weight(edge);
+            if (candidate < space.distance(next)) {
+                space.reach(next, candidate, node);
+                space.heap().insertOrDecrease(next, candidate);
+            }
+        }
+    }
+}
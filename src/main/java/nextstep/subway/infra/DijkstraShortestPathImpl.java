@@ -1,59 +1,203 @@
 package nextstep.subway.infra;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import nextstep.subway.domain.Line;
+import java.util.concurrent.atomic.AtomicReference;
+import nextstep.subway.domain.GraphSnapshot;
+import nextstep.subway.domain.GraphSource;
 import nextstep.subway.domain.Path;
-import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionsChangedEvent;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.domain.dto.ReachDto;
 import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.WeightedMultigraph;
+import org.jgrapht.traverse.ClosestFirstIterator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+/**
+ * jgrapht 그래프는 게시된 뒤 고치면 조회 중인 스레드와 충돌하므로 구간이 바뀔 때마다 그래프 전체를 새로 만든다.
+ * 바뀐 행만 덧붙이는 csr 엔진이 기본이며, 이 엔진은 subway.path.engine=dijkstra 로 고를 때만 쓴다.
+ */
+@ConditionalOnProperty(prefix = "subway.path", name = "engine", havingValue = "dijkstra")
 @Component
 public class DijkstraShortestPathImpl implements Path {
 
-    private DijkstraShortestPath<Station, DefaultWeightedEdge> path;
+    /**
+     * 완성된 그래프만 교체하여 게시한다. 조회는 잠금 없이 게시된 그래프 하나만 끝까지 사용한다.
+     */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final int hotSourceThreshold;
+    private long version;
 
-    @Override
-    public void init(final List<Line> lines) {
-        WeightedMultigraph<Station, DefaultWeightedEdge> graph = new WeightedMultigraph(DefaultWeightedEdge.class);
-
-        lines.stream()
-                .peek(line -> line.getStations().forEach(graph::addVertex))
-                .map(Line::getSections)
-                .flatMap(Collection::stream)
-                .forEach(section -> setEdge(graph, section));
+    public DijkstraShortestPathImpl() {
+        this(ShortestPathTreeCache.DEFAULT_HOT_SOURCE_THRESHOLD);
+    }
 
-        this.path = new DijkstraShortestPath(graph);
+    /**
+     * subway.path.tree.hot-source-threshold 번 조회된 출발역부터 최단 경로 트리를 보관하고, 0 이면 보관하지 않는다.
+     */
+    @Autowired
+    public DijkstraShortestPathImpl(@Value("${subway.path.tree.hot-source-threshold:3}") final int hotSourceThreshold) {
+        this.hotSourceThreshold = hotSourceThreshold;
     }
 
-    private void setEdge(final WeightedMultigraph<Station, DefaultWeightedEdge> graph, final Section section) {
-        graph.setEdgeWeight(
-                graph.addEdge(section.getUpStation(), section.getDownStation()),
-                section.getDistance().value()
-        );
+    @Override
+    public synchronized void init(final GraphSource source) {
+        this.snapshot.set(Snapshot.from(++version, SectionEdges.from(source), hotSourceThreshold));
     }
 
+    /**
+     * 게시된 그래프가 없으면 다음 init 에서 최신 구간을 읽으므로 무시한다.
+     */
     @Override
-    public PathDto find(final Station source, final Station target) {
-        validateSourceAndTargetIsNotEqual(source, target);
-        return Optional.ofNullable(this.path.getPath(source, target))
-                .map(this::createGraphPathDto)
-                .orElseThrow(IllegalArgumentException::new);
+    public synchronized void update(final SectionsChangedEvent event) {
+        Snapshot current = this.snapshot.get();
+        if (current == null) {
+            return;
+        }
+        this.snapshot.set(Snapshot.from(++version, current.edges.apply(event), hotSourceThreshold));
     }
 
-    private void validateSourceAndTargetIsNotEqual(final Station source, final Station target) {
-        if (source.equals(target)) {
-            throw new IllegalArgumentException("출발역과 도착역은 같을 수 없습니다.");
+    @Override
+    public GraphSnapshot snapshot() {
+        Snapshot current = this.snapshot.get();
+        if (current == null) {
+            throw new IllegalStateException("경로 그래프가 초기화되지 않았습니다.");
         }
+        return current;
     }
 
-    private PathDto createGraphPathDto(final GraphPath<Station, DefaultWeightedEdge> graphPath) {
-        return new PathDto(graphPath.getVertexList(), graphPath.getWeight());
+    /**
+     * 역은 트랜잭션마다 다른 객체로 읽히므로 그래프 정점은 역 id 별 하나의 객체로 맞춘다.
+     * 자주 쓰이는 출발역은 단일 출발 최단 경로 트리를 보관해 두고, 도착역까지는 트리를 따라가기만 한다.
+     * 트리에 도착역까지의 경로가 없으면 연결되지 않은 것이므로 다시 탐색하지 않는다.
+     */
+    private static class Snapshot implements GraphSnapshot {
+        private static final long TREE_BYTES_PER_VERTEX = 64;
+
+        private final long version;
+        private final SectionEdges edges;
+        private final Map<Long, Station> vertices;
+        private final WeightedMultigraph<Station, DefaultWeightedEdge> graph;
+        private final DijkstraShortestPath<Station, DefaultWeightedEdge> path;
+        private final ShortestPathTreeCache<Station, SingleSourcePaths<Station, DefaultWeightedEdge>> trees;
+
+        private Snapshot(
+                final long version,
+                final SectionEdges edges,
+                final Map<Long, Station> vertices,
+                final WeightedMultigraph<Station, DefaultWeightedEdge> graph,
+                final int hotSourceThreshold
+        ) {
+            this.version = version;
+            this.edges = edges;
+            this.vertices = vertices;
+            this.graph = graph;
+            this.path = new DijkstraShortestPath(graph);
+            this.trees = new ShortestPathTreeCache<>(
+                    ShortestPathTreeCache.DEFAULT_MAX_BYTES,
+                    hotSourceThreshold,
+                    tree -> TREE_BYTES_PER_VERTEX * vertices.size()
+            );
+        }
+
+        /**
+         * 그래프를 통째로 다시 만들므로 구간 모음도 합쳐 둔다.
+         */
+        private static Snapshot from(final long version, final SectionEdges sectionEdges, final int hotSourceThreshold) {
+            SectionEdges edges = sectionEdges.compact();
+            Map<Long, Station> vertices = new HashMap<>();
+            WeightedMultigraph<Station, DefaultWeightedEdge> graph = new WeightedMultigraph(DefaultWeightedEdge.class);
+            for (SectionEdge edge : edges.values()) {
+                Station upStation = vertices.computeIfAbsent(edge.getUpStation().getId(), id -> edge.getUpStation());
+                Station downStation = vertices.computeIfAbsent(edge.getDownStation().getId(), id -> edge.getDownStation());
+                graph.addVertex(upStation);
+                graph.addVertex(downStation);
+                graph.setEdgeWeight(graph.addEdge(upStation, downStation), edge.getDistance());
+            }
+            return new Snapshot(version, edges, vertices, graph, hotSourceThreshold);
+        }
+
+        @Override
+        public long version() {
+            return version;
+        }
+
+        @Override
+        public Optional<Station> station(final long stationId) {
+            return Optional.ofNullable(vertices.get(stationId));
+        }
+
+        @Override
+        public PathDto find(final Station source, final Station target) {
+            Station sourceVertex = vertexOf(source);
+            Station targetVertex = vertexOf(target);
+            validateSourceAndTargetIsNotEqual(sourceVertex, targetVertex);
+            return trees.get(sourceVertex, path::getPaths)
+                    .map(tree -> Optional.ofNullable(tree.getPath(targetVertex)))
+                    .orElseGet(() -> Optional.ofNullable(path.getPath(sourceVertex, targetVertex)))
+                    .map(this::createGraphPathDto)
+                    .orElseThrow(IllegalArgumentException::new);
+        }
+
+        @Override
+        public double[] distances(final Station source, final List<Station> targets) {
+            double[] distances = new double[targets.size()];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            Station sourceVertex = vertices.get(source.getId());
+            if (sourceVertex == null) {
+                return distances;
+            }
+            SingleSourcePaths<Station, DefaultWeightedEdge> paths = path.getPaths(sourceVertex);
+            for (int i = 0; i < distances.length; i++) {
+                Station targetVertex = vertices.get(targets.get(i).getId());
+                if (targetVertex != null) {
+                    distances[i] = paths.getWeight(targetVertex);
+                }
+            }
+            return distances;
+        }
+
+        @Override
+        public List<ReachDto> reachable(final Station source, final int budget) {
+            Station sourceVertex = vertices.get(source.getId());
+            if (sourceVertex == null) {
+                return List.of(new ReachDto(source, 0));
+            }
+            List<ReachDto> reached = new ArrayList<>();
+            ClosestFirstIterator<Station, DefaultWeightedEdge> iterator
+                    = new ClosestFirstIterator<>(graph, sourceVertex, budget);
+            while (iterator.hasNext()) {
+                Station station = iterator.next();
+                reached.add(new ReachDto(station, iterator.getShortestPathLength(station)));
+            }
+            return reached;
+        }
+
+        private void validateSourceAndTargetIsNotEqual(final Station source, final Station target) {
+            if (source.equals(target)) {
+                throw new IllegalArgumentException("출발역과 도착역은 같을 수 없습니다.");
+            }
+        }
+
+        private PathDto createGraphPathDto(final GraphPath<Station, DefaultWeightedEdge> graphPath) {
+            return new PathDto(graphPath.getVertexList(), graphPath.getWeight());
+        }
+
+        private Station vertexOf(final Station station) {
+            return Optional.ofNullable(vertices.get(station.getId()))
+                    .orElseThrow(() -> new IllegalArgumentException("경로 그래프에 존재하지 않는 역입니다."));
+        }
     }
 }
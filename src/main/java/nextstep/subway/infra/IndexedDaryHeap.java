@@ -0,0 +1,128 @@
+package nextstep.subway.infra;
+
+import java.util.Arrays;
+
+/**
+ * 정점 번호(int)를 원소로 하는 d-진 최소 힙. 정점별 위치를 기억하므로 키 감소를 제자리에서 처리한다.
+ * 한 번 만든 배열은 그래프가 커질 때만 늘리고, 조회마다 다시 만들지 않는다.
+ */
+final class IndexedDaryHeap {
+
+    private static final int ARITY = 4;
+    private static final int ABSENT = -1;
+
+    private int[] heap = new int[0];
+    private int[] positions = new int[0];
+    private int[] keys = new int[0];
+    private int size;
+    private int polled;
+
+    void ensureCapacity(final int capacity) {
+        if (positions.length >= capacity) {
+            return;
+        }
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        int previous = positions.length;
+        positions = Arrays.copyOf(positions, capacity);
+        Arrays.fill(positions, previous, capacity, ABSENT);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int minKey() {
+        return keys[heap[0]];
+    }
+
+    void insertOrDecrease(final int vertex, final int key) {
+        if (positions[vertex] == ABSENT) {
+            keys[vertex] = key;
+            heap[size] = vertex;
+            positions[vertex] = size;
+            siftUp(size++);
+            return;
+        }
+        if (key < keys[vertex]) {
+            keys[vertex] = key;
+            siftUp(positions[vertex]);
+        }
+    }
+
+    int poll() {
+        polled++;
+        int min = heap[0];
+        positions[min] = ABSENT;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * 목적지에서 조기 종료하면 힙에 원소가 남으므로, 남은 원소의 위치만 되돌려 다음 조회를 준비한다.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+        polled = 0;
+    }
+
+    /**
+     * 마지막으로 비운 뒤 꺼낸 정점 수.
+     */
+    int polledCount() {
+        return polled;
+    }
+
+    private void siftUp(final int index) {
+        int vertex = heap[index];
+        int key = keys[vertex];
+        int child = index;
+        while (child > 0) {
+            int parent = (child - 1) / ARITY;
+            int parentVertex = heap[parent];
+            if (keys[parentVertex] <= key) {
+                break;
+            }
+            heap[child] = parentVertex;
+            positions[parentVertex] = child;
+            child = parent;
+        }
+        heap[child] = vertex;
+        positions[vertex] = child;
+    }
+
+    private void siftDown(final int index) {
+        int vertex = heap[index];
+        int key = keys[vertex];
+        int parent = index;
+        while (true) {
+            int first = parent * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            int min = first;
+            int last = Math.min(first + ARITY, size);
+            for (int child = first + 1; child < last; child++) {
+                if (keys[heap[child]] < keys[heap[min]]) {
+                    min = child;
+                }
+            }
+            int minVertex = heap[min];
+            if (key <= keys[minVertex]) {
+                break;
+            }
+            heap[parent] = minVertex;
+            positions[minVertex] = parent;
+            parent = min;
+        }
+        heap[parent] = vertex;
+        positions[vertex] = parent;
+    }
+}
@@ -0,0 +1,201 @@
+package nextstep.subway.infra;
+
+import static nextstep.subway.infra.SearchSpace.INFINITY;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * CSR 그래프와 랜드마크 역에서 모든 역까지의 거리를 함께 보관하는 불변 스냅샷.
+ * 삼각 부등식에 의해 |d(L, t) - d(L, v)| 는 v 에서 t 까지 거리의 하한이므로 A* 의 휴리스틱으로 쓴다.
+ * 구간이 바뀌면 랜드마크 거리는 다시 계산하지 않고 patch 로 새 그래프에 맞춘다. 이때 하한이 여전히 성립하는지는
+ * 모든 간선 (u, v, w) 에서 |D(L, u) - D(L, v)| <= w 인지로 판단한다. 이 조건이 성립하면 어떤 경로를 따라 더해도 하한이 된다.
+ */
+final class LandmarkGraph {
+
+    private final CsrGraph graph;
+    private final int landmarkedSize;
+    private final int[][] distances;
+    private final int[][] addedDistances;
+    private final boolean admissible;
+
+    private LandmarkGraph(
+            final CsrGraph graph,
+            final int landmarkedSize,
+            final int[][] distances,
+            final int[][] addedDistances,
+            final boolean admissible
+    ) {
+        this.graph = graph;
+        this.landmarkedSize = landmarkedSize;
+        this.distances = distances;
+        this.addedDistances = addedDistances;
+        this.admissible = admissible;
+    }
+
+    /**
+     * 랜드마크는 이미 고른 랜드마크에서 가장 많은 구간을 건너야 닿는 역을 차례로 고르고(BFS),
+     * 랜드마크별 거리 계산은 서로 독립이므로 코어 수만큼 병렬로 수행한다.
+     */
+    static LandmarkGraph of(final CsrGraph graph, final int landmarkCount) {
+        int[] landmarks = selectLandmarks(graph, Math.min(landmarkCount, graph.size()));
+        int[][] distances = IntStream.range(0, landmarks.length)
+                .parallel()
+                .mapToObj(i -> DijkstraKernel.distancesFrom(graph, landmarks[i]))
+                .toArray(int[][]::new);
+        return new LandmarkGraph(graph, graph.size(), distances, new int[landmarks.length][0], true);
+    }
+
+    /**
+     * 구간이 바뀐 그래프에 랜드마크 거리를 그대로 가져간다.
+     * 구간이 빠지거나 길어지면 거리는 줄지 않으므로 이전 하한이 그대로 하한이다. 다만 조건은 행이 바뀐 정점의 간선마다 다시 확인한다.
+     * 새로 생긴 역은 이미 거리가 있는 이웃 중 가장 가까운 값(이웃 거리 + 구간 거리)을 거리로 삼는다.
+     * 구간이 생기거나 짧아져 조건이 깨지면(연결 요소가 이어진 경우 포함) 다시 계산하기 전까지 휴리스틱 없이 탐색한다.
+     */
+    LandmarkGraph patch(final CsrGraph changed) {
+        int[][] added = new int[distances.length][changed.size() - landmarkedSize];
+        for (int vertex = landmarkedSize; vertex < changed.size(); vertex++) {
+            if (!estimate(changed, added, vertex)) {
+                return new LandmarkGraph(changed, landmarkedSize, distances, added, false);
+            }
+        }
+        LandmarkGraph patched = new LandmarkGraph(changed, landmarkedSize, distances, added, true);
+        for (int vertex : changed.patchedVertices()) {
+            if (!patched.boundsHoldAround(vertex)) {
+                return new LandmarkGraph(changed, landmarkedSize, distances, added, false);
+            }
+        }
+        return patched;
+    }
+
+    /**
+     * 새 역의 랜드마크 거리를 이웃으로부터 정한다. 앞서 정한 새 역도 이웃으로 쓴다. 이웃이 모두 아직 정하지 못한 새 역이면 false 이다.
+     */
+    private boolean estimate(final CsrGraph changed, final int[][] added, final int vertex) {
+        boolean hasEdge = false;
+        boolean hasEstimatedNeighbor = false;
+        for (int[] landmark : added) {
+            landmark[vertex - landmarkedSize] = INFINITY;
+        }
+        for (int edge = changed.edgeStart(vertex); edge < changed.edgeEnd(vertex); edge++) {
+            hasEdge = true;
+            int next = changed.target(edge);
+            if (next >= vertex) {
+                continue;
+            }
+            hasEstimatedNeighbor = true;
+            for (int landmark = 0; landmark < added.length; landmark++) {
+                int toNext = next < landmarkedSize ? distances[landmark][next] : added[landmark][next - landmarkedSize];
+                if (toNext != INFINITY) {
+                    added[landmark][vertex - landmarkedSize] = (int) Math.min(
+                            added[landmark][vertex - landmarkedSize],
+                            (long) toNext + changed.weight(edge)
+                    );
+                }
+            }
+        }
+        return !hasEdge || hasEstimatedNeighbor;
+    }
+
+    private boolean boundsHoldAround(final int vertex) {
+        for (int edge = graph.edgeStart(vertex); edge < graph.edgeEnd(vertex); edge++) {
+            int next = graph.target(edge);
+            for (int landmark = 0; landmark < distances.length; landmark++) {
+                int toVertex = distance(landmark, vertex);
+                int toNext = distance(landmark, next);
+                if ((toVertex == INFINITY) != (toNext == INFINITY)) {
+                    return false;
+                }
+                if (toVertex != INFINITY && Math.abs((long) toVertex - toNext) > graph.weight(edge)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int distance(final int landmark, final int vertex) {
+        if (vertex < landmarkedSize) {
+            return distances[landmark][vertex];
+        }
+        return addedDistances[landmark][vertex - landmarkedSize];
+    }
+
+    private static int[] selectLandmarks(final CsrGraph graph, final int count) {
+        int[] landmarks = new int[count];
+        int[] nearestHops = new int[graph.size()];
+        Arrays.fill(nearestHops, INFINITY);
+        int[] queue = new int[graph.size()];
+        int[] hops = new int[graph.size()];
+
+        int candidate = 0;
+        for (int selected = 0; selected < count; selected++) {
+            landmarks[selected] = candidate;
+            breadthFirst(graph, candidate, queue, hops);
+            candidate = 0;
+            for (int vertex = 0; vertex < graph.size(); vertex++) {
+                nearestHops[vertex] = Math.min(nearestHops[vertex], hops[vertex]);
+                if (nearestHops[vertex] > nearestHops[candidate]) {
+                    candidate = vertex;
+                }
+            }
+        }
+        return landmarks;
+    }
+
+    private static void breadthFirst(final CsrGraph graph, final int source, final int[] queue, final int[] hops) {
+        Arrays.fill(hops, INFINITY);
+        hops[source] = 0;
+        queue[0] = source;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int node = queue[head++];
+            for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+                int next = graph.target(edge);
+                if (hops[next] == INFINITY) {
+                    hops[next] = hops[node] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    CsrGraph graph() {
+        return graph;
+    }
+
+    boolean isAdmissible() {
+        return admissible;
+    }
+
+    int heuristic(final int vertex, final int target) {
+        if (!admissible) {
+            return 0;
+        }
+        int bound = 0;
+        for (int landmark = 0; landmark < distances.length; landmark++) {
+            int toVertex = distance(landmark, vertex);
+            int toTarget = distance(landmark, target);
+            if (toVertex != INFINITY && toTarget != INFINITY) {
+                bound = Math.max(bound, Math.abs(toTarget - toVertex));
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * 한 랜드마크에서 두 역 중 한쪽에만 닿는다면 두 역은 서로 다른 연결 요소에 있다.
+     */
+    boolean isSeparated(final int source, final int target) {
+        if (!admissible) {
+            return false;
+        }
+        for (int landmark = 0; landmark < distances.length; landmark++) {
+            if ((distance(landmark, source) == INFINITY) != (distance(landmark, target) == INFINITY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
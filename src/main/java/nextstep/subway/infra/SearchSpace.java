@@ -0,0 +1,98 @@
+package nextstep.subway.infra;
+
+import java.util.Arrays;
+import java.util.List;
+import nextstep.subway.domain.Station;
+
+/**
+ * 한 스레드가 재사용하는 탐색용 작업 공간.
+ * 거리와 이전 정점 배열을 조회마다 비우지 않고, 세대 번호가 현재 세대와 같은 칸만 유효한 값으로 본다.
+ */
+final class SearchSpace {
+
+    static final int INFINITY = Integer.MAX_VALUE;
+    static final int NONE = -1;
+
+    private final IndexedDaryHeap heap = new IndexedDaryHeap();
+    private int[] distances = new int[0];
+    private int[] predecessors = new int[0];
+    private int[] stamps = new int[0];
+    private int[] marks = new int[0];
+    private int generation;
+
+    SearchSpace reset(final int size) {
+        if (stamps.length < size) {
+            distances = Arrays.copyOf(distances, size);
+            predecessors = Arrays.copyOf(predecessors, size);
+            stamps = Arrays.copyOf(stamps, size);
+            marks = Arrays.copyOf(marks, size);
+        }
+        heap.ensureCapacity(size);
+        heap.clear();
+        if (++generation == 0) {
+            Arrays.fill(stamps, 0);
+            Arrays.fill(marks, 0);
+            generation = 1;
+        }
+        return this;
+    }
+
+    IndexedDaryHeap heap() {
+        return heap;
+    }
+
+    /**
+     * 이번 세대에서 힙에서 꺼내 확정한 정점 수. 탐색 방식마다 확정하는 정점 수를 비교하는 데 쓴다.
+     */
+    int settledCount() {
+        return heap.polledCount();
+    }
+
+    boolean isReached(final int vertex) {
+        return stamps[vertex] == generation;
+    }
+
+    int distance(final int vertex) {
+        return isReached(vertex) ? distances[vertex] : INFINITY;
+    }
+
+    int predecessor(final int vertex) {
+        return isReached(vertex) ? predecessors[vertex] : NONE;
+    }
+
+    void reach(final int vertex, final int distance, final int predecessor) {
+        stamps[vertex] = generation;
+        distances[vertex] = distance;
+        predecessors[vertex] = predecessor;
+    }
+
+    /**
+     * 이번 세대에서만 유효한 표시. 여러 도착 정점을 찾는 탐색에서 도착 정점인지 확인하는 데 쓴다.
+     */
+    boolean mark(final int vertex) {
+        if (marks[vertex] == generation) {
+            return false;
+        }
+        marks[vertex] = generation;
+        return true;
+    }
+
+    boolean isMarked(final int vertex) {
+        return marks[vertex] == generation;
+    }
+
+    /**
+     * 도착 정점부터 이전 정점을 따라가며 출발역부터의 역 목록을 만든다.
+     */
+    List<Station> path(final CsrGraph graph, final int target) {
+        int count = 0;
+        for (int vertex = target; vertex != NONE; vertex = predecessor(vertex)) {
+            count++;
+        }
+        Station[] nodes = new Station[count];
+        for (int vertex = target; vertex != NONE; vertex = predecessor(vertex)) {
+            nodes[--count] = graph.station(vertex);
+        }
+        return Arrays.asList(nodes);
+    }
+}
@@ -0,0 +1,55 @@
+package nextstep.subway.infra;
+
+import java.util.Objects;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+
+/**
+ * 경로 그래프가 보관하는 구간 값. 엔티티는 이후 트랜잭션에서 바뀔 수 있으므로 만들 당시의 역과 거리를 복사해 둔다.
+ */
+final class SectionEdge {
+
+    private final Station upStation;
+    private final Station downStation;
+    private final int distance;
+
+    private SectionEdge(final Station upStation, final Station downStation, final int distance) {
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.distance = distance;
+    }
+
+    static SectionEdge from(final Section section) {
+        return new SectionEdge(
+                section.getUpStation(),
+                section.getDownStation(),
+                section.getDistance().value()
+        );
+    }
+
+    static SectionEdge of(final Station upStation, final Station downStation, final int distance) {
+        return new SectionEdge(upStation, downStation, distance);
+    }
+
+    /**
+     * 같은 역 사이의 같은 거리이면 그래프에서는 같은 구간이다. 역 객체는 트랜잭션마다 다르므로 id 로 비교한다.
+     */
+    boolean isSameAs(final SectionEdge other) {
+        return other != null
+                && Objects.equals(upStation.getId(), other.upStation.getId())
+                && Objects.equals(downStation.getId(), other.downStation.getId())
+                && distance == other.distance;
+    }
+
+    Station getUpStation() {
+        return upStation;
+    }
+
+    Station getDownStation() {
+        return downStation;
+    }
+
+    int getDistance() {
+        return distance;
+    }
+}
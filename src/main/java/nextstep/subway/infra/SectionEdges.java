@@ -0,0 +1,135 @@
+package nextstep.subway.infra;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import nextstep.subway.domain.GraphSource;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionsChangedEvent;
+
+/**
+ * 구간 id 별 구간 값의 불변 모음. 구간 변경 이벤트를 적용하면 원본은 그대로 두고 바뀐 모음을 새로 만든다.
+ * 같은 이벤트를 여러 번 적용해도 결과가 같다. 아직 저장되지 않아 id 가 없는 구간은 구간 객체 자체로 구분한다.
+ * 적용할 때 전체를 복사하지 않도록 바뀐 구간만 changes 에 따로 두고(제거는 null), compact 에서 한 모음으로 합친다.
+ */
+final class SectionEdges {
+
+    private final Map<Object, SectionEdge> base;
+    private final Map<Object, SectionEdge> changes;
+
+    private SectionEdges(final Map<Object, SectionEdge> base, final Map<Object, SectionEdge> changes) {
+        this.base = base;
+        this.changes = changes;
+    }
+
+    static SectionEdges from(final GraphSource source) {
+        Map<Object, SectionEdge> edges = new LinkedHashMap<>();
+        for (int i = 0; i < source.size(); i++) {
+            edges.put(
+                    source.sectionId(i),
+                    SectionEdge.of(source.upStation(i), source.downStation(i), source.distance(i))
+            );
+        }
+        return new SectionEdges(Collections.unmodifiableMap(edges), Collections.emptyMap());
+    }
+
+    SectionEdges apply(final SectionsChangedEvent event) {
+        return delta(event).edges();
+    }
+
+    /**
+     * 이벤트를 적용한 모음과 함께, 그 결과 실제로 빠진 구간 값과 들어온 구간 값을 돌려준다.
+     * 구간 값이 바뀐 구간은 이전 값이 빠지고 새 값이 들어온 것으로 본다. 비용은 지금까지 바뀐 구간 수에 비례한다.
+     */
+    Delta delta(final SectionsChangedEvent event) {
+        Map<Object, SectionEdge> changed = new HashMap<>(changes);
+        List<SectionEdge> removed = new ArrayList<>();
+        List<SectionEdge> added = new ArrayList<>();
+        for (Section section : event.getRemoved()) {
+            Object key = keyOf(section);
+            SectionEdge previous = get(changed, key);
+            if (previous != null) {
+                removed.add(previous);
+                changed.put(key, null);
+            }
+        }
+        for (Section section : event.getUpserted()) {
+            Object key = keyOf(section);
+            SectionEdge previous = get(changed, key);
+            SectionEdge edge = SectionEdge.from(section);
+            if (edge.isSameAs(previous)) {
+                continue;
+            }
+            if (previous != null) {
+                removed.add(previous);
+            }
+            added.add(edge);
+            changed.put(key, edge);
+        }
+        return new Delta(new SectionEdges(base, Collections.unmodifiableMap(changed)), removed, added);
+    }
+
+    private SectionEdge get(final Map<Object, SectionEdge> changed, final Object key) {
+        if (changed.containsKey(key)) {
+            return changed.get(key);
+        }
+        return base.get(key);
+    }
+
+    private static Object keyOf(final Section section) {
+        if (section.getId() == null) {
+            return section;
+        }
+        return section.getId();
+    }
+
+    /**
+     * 바뀐 구간을 합친 모음. 구간 수에 비례하므로 조회 경로가 아닌 곳에서 부른다.
+     */
+    SectionEdges compact() {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        Map<Object, SectionEdge> edges = new LinkedHashMap<>(base);
+        changes.forEach((key, edge) -> {
+            if (edge == null) {
+                edges.remove(key);
+                return;
+            }
+            edges.put(key, edge);
+        });
+        return new SectionEdges(Collections.unmodifiableMap(edges), Collections.emptyMap());
+    }
+
+    Collection<SectionEdge> values() {
+        return compact().base.values();
+    }
+
+    static final class Delta {
+        private final SectionEdges edges;
+        private final List<SectionEdge> removed;
+        private final List<SectionEdge> added;
+
+        private Delta(final SectionEdges edges, final List<SectionEdge> removed, final List<SectionEdge> added) {
+            this.edges = edges;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        SectionEdges edges() {
+            return edges;
+        }
+
+        List<SectionEdge> removed() {
+            return removed;
+        }
+
+        List<SectionEdge> added() {
+            return added;
+        }
+    }
+}
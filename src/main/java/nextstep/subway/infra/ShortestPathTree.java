@@ -0,0 +1,57 @@
+package nextstep.subway.infra;
+
+import static nextstep.subway.infra.SearchSpace.NONE;
+
+import java.util.Arrays;
+import java.util.List;
+import nextstep.subway.domain.Station;
+
+/**
+ * 한 출발 정점에서 모든 정점까지의 거리와 이전 정점 배열. 도착 정점이 무엇이든 이전 정점을 따라가기만 하면 경로가 나온다.
+ */
+final class ShortestPathTree {
+
+    private final int[] distances;
+    private final int[] predecessors;
+
+    private ShortestPathTree(final int[] distances, final int[] predecessors) {
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    static ShortestPathTree from(final CsrGraph graph, final int source) {
+        SearchSpace space = DijkstraKernel.localSearchSpace();
+        DijkstraKernel.settleWithin(graph, space, source, SearchSpace.INFINITY, vertex -> { });
+
+        int[] distances = new int[graph.size()];
+        int[] predecessors = new int[graph.size()];
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            distances[vertex] = space.distance(vertex);
+            predecessors[vertex] = space.predecessor(vertex);
+        }
+        return new ShortestPathTree(distances, predecessors);
+    }
+
+    long bytes() {
+        return (long) Integer.BYTES * (distances.length + predecessors.length);
+    }
+
+    int distance(final int target) {
+        return distances[target];
+    }
+
+    /**
+     * 출발역부터 도착역까지의 역 목록. 경로 길이에 비례하는 시간만 든다.
+     */
+    List<Station> path(final CsrGraph graph, final int target) {
+        int count = 0;
+        for (int vertex = target; vertex != NONE; vertex = predecessors[vertex]) {
+            count++;
+        }
+        Station[] nodes = new Station[count];
+        for (int vertex = target; vertex != NONE; vertex = predecessors[vertex]) {
+            nodes[--count] = graph.station(vertex);
+        }
+        return Arrays.asList(nodes);
+    }
+}
@@ -0,0 +1,119 @@
+package nextstep.subway.infra;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 자주 쓰이는 출발역의 최단 경로 트리를 메모리 한도 안에서 보관한다. 한 그래프 스냅샷에만 유효하다.
+ * 출발역이 hotSourceThreshold 번 조회되면 트리를 만들고, 한도를 넘으면 가장 오래 쓰이지 않은 트리부터 버린다(LRU).
+ * 조회 횟수는 최근에 조회된 출발역 MAX_COUNTED_SOURCES 개까지만 세고, 넘으면 가장 오래 조회되지 않은 출발역의 횟수부터 버린다.
+ * 같은 출발역의 트리는 한 스레드만 만들고, 그동안 같은 출발역을 조회한 스레드는 그 결과를 기다려 함께 쓴다.
+ */
+final class ShortestPathTreeCache<K, T> {
+
+    static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+    static final int DEFAULT_HOT_SOURCE_THRESHOLD = 3;
+
+    /**
+     * 트리를 만들지 않는 hotSourceThreshold. 도착역 방향으로만 탐색하는 엔진은 전체 트리를 만드는 비용이 더 크다.
+     */
+    static final int DISABLED = 0;
+    static final int MAX_COUNTED_SOURCES = 1024;
+
+    private final long maxBytes;
+    private final int hotSourceThreshold;
+    private final ToLongFunction<T> weigher;
+    private final LinkedHashMap<K, Integer> requestCounts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, Integer> eldest) {
+            return size() > MAX_COUNTED_SOURCES;
+        }
+    };
+    private final Map<K, CompletableFuture<T>> building = new ConcurrentHashMap<>();
+    private final LinkedHashMap<K, T> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    ShortestPathTreeCache(final long maxBytes, final int hotSourceThreshold, final ToLongFunction<T> weigher) {
+        this.maxBytes = maxBytes;
+        this.hotSourceThreshold = hotSourceThreshold;
+        this.weigher = weigher;
+    }
+
+    /**
+     * 보관 중인 트리만 반환하고 조회 횟수는 세지 않는다.
+     */
+    synchronized Optional<T> peek(final K source) {
+        return Optional.ofNullable(trees.get(source));
+    }
+
+    /**
+     * 보관 중인 트리를 반환하거나, 출발역이 자주 조회되었으면 새로 만들어 보관한다. 아직 자주 조회되지 않았으면 비어있다.
+     */
+    Optional<T> get(final K source, final Function<K, T> builder) {
+        if (hotSourceThreshold == DISABLED) {
+            return Optional.empty();
+        }
+        Optional<T> cached = peek(source);
+        if (cached.isPresent() || !isHot(source)) {
+            return cached;
+        }
+        return build(source, builder);
+    }
+
+    private synchronized boolean isHot(final K source) {
+        int count = requestCounts.merge(source, 1, (counted, one) -> Math.min(counted + one, hotSourceThreshold));
+        return count >= hotSourceThreshold;
+    }
+
+    /**
+     * 먼저 온 스레드가 트리를 만드는 동안 나머지는 기다린다. 만들다 실패하면 기다린 스레드는 트리 없이 직접 탐색한다.
+     * 앞선 스레드가 보관을 마치고 물러난 직후에 들어올 수 있으므로, 만들 차례를 얻으면 보관된 트리를 한 번 더 확인한다.
+     */
+    private Optional<T> build(final K source, final Function<K, T> builder) {
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        CompletableFuture<T> leader = building.putIfAbsent(source, flight);
+        if (leader != null) {
+            return leader.handle((tree, e) -> Optional.ofNullable(tree)).join();
+        }
+        try {
+            Optional<T> cached = peek(source);
+            T tree = cached.isPresent() ? cached.get() : store(source, builder.apply(source));
+            flight.complete(tree);
+            return Optional.of(tree);
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(source, flight);
+        }
+    }
+
+    private T store(final K source, final T tree) {
+        long weight = weigher.applyAsLong(tree);
+        if (weight > maxBytes) {
+            return tree;
+        }
+        return put(source, tree, weight);
+    }
+
+    private synchronized T put(final K source, final T tree, final long weight) {
+        T existing = trees.get(source);
+        if (existing != null) {
+            return existing;
+        }
+        trees.put(source, tree);
+        totalBytes += weight;
+        Iterator<T> eldest = trees.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= weigher.applyAsLong(eldest.next());
+            eldest.remove();
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,47 @@
+package nextstep.subway.ui;
+
+import java.util.List;
+import nextstep.subway.applicaion.CacheMetrics;
+import nextstep.subway.applicaion.EntityCacheMetrics;
+import nextstep.subway.applicaion.GraphRebuilder;
+import nextstep.subway.applicaion.dto.CacheStatsResponse;
+import nextstep.subway.applicaion.dto.GraphRebuildStatsResponse;
+import nextstep.subway.applicaion.dto.EntityCacheStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping(value = "/cache-stats")
+@RestController
+public class CacheStatsController {
+
+    private final EntityCacheMetrics entityCacheMetrics;
+    private final CacheMetrics cacheMetrics;
+    private final GraphRebuilder graphRebuilder;
+
+    public CacheStatsController(
+            final EntityCacheMetrics entityCacheMetrics,
+            final CacheMetrics cacheMetrics,
+            final GraphRebuilder graphRebuilder
+    ) {
+        this.entityCacheMetrics = entityCacheMetrics;
+        this.cacheMetrics = cacheMetrics;
+        this.graphRebuilder = graphRebuilder;
+    }
+
+    @GetMapping("/entities")
+    public ResponseEntity<List<EntityCacheStatsResponse>> entities() {
+        return ResponseEntity.ok().body(entityCacheMetrics.stats());
+    }
+
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsResponse>> caches() {
+        return ResponseEntity.ok().body(cacheMetrics.stats());
+    }
+
+    @GetMapping("/graph-rebuilds")
+    public ResponseEntity<GraphRebuildStatsResponse> graphRebuilds() {
+        return ResponseEntity.ok().body(graphRebuilder.stats());
+    }
+}
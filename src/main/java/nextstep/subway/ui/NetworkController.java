@@ -0,0 +1,39 @@
+package nextstep.subway.ui;
+
+import java.io.InputStream;
+import nextstep.subway.applicaion.NetworkExportService;
+import nextstep.subway.applicaion.NetworkImportService;
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RequestMapping(value = "/network")
+@RestController
+public class NetworkController {
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final NetworkImportService networkImportService;
+    private final NetworkExportService networkExportService;
+
+    public NetworkController(
+            final NetworkImportService networkImportService,
+            final NetworkExportService networkExportService
+    ) {
+        this.networkImportService = networkImportService;
+        this.networkExportService = networkExportService;
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<NetworkImportResponse> importNetwork(final InputStream body) {
+        return ResponseEntity.ok().body(networkImportService.importNetwork(body));
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportNetwork() {
+        return ResponseEntity.ok().body(networkExportService::exportNetwork);
+    }
+}
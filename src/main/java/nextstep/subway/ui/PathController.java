@@ -1,9 +1,18 @@
 package nextstep.subway.ui;
 
+import java.util.List;
 import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.dto.DistanceMatrixRequest;
+import nextstep.subway.applicaion.dto.DistanceMatrixResponse;
+import nextstep.subway.applicaion.dto.GraphVersioned;
+import nextstep.subway.applicaion.dto.PathCacheStatsResponse;
+import nextstep.subway.applicaion.dto.PathRequest;
 import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.ReachableStationResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -11,6 +20,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(value = "/paths")
 @RestController
 public class PathController {
+    /**
+     * 응답을 만드는 데 쓴 경로 그래프 스냅샷 버전. 백그라운드 갱신 중에는 변경 전 버전일 수 있다.
+     */
+    public static final String GRAPH_VERSION_HEADER = "X-Graph-Version";
 
     private final PathService pathService;
 
@@ -23,6 +36,35 @@ public class PathController {
             @RequestParam("source") final Long source,
             @RequestParam("target") final Long target
     ) {
-        return ResponseEntity.ok().body(pathService.findPathBy(source, target));
+        return versioned(pathService.findPathBy(source, target));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<PathResponse>> paths(@RequestBody final List<PathRequest> requests) {
+        return versioned(pathService.findPathsBy(requests));
+    }
+
+    @PostMapping("/matrix")
+    public ResponseEntity<DistanceMatrixResponse> distanceMatrix(@RequestBody final DistanceMatrixRequest request) {
+        return versioned(pathService.findDistanceMatrix(request));
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<List<ReachableStationResponse>> reachable(
+            @RequestParam("source") final Long source,
+            @RequestParam("distance") final int distance
+    ) {
+        return versioned(pathService.findReachableStations(source, distance));
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<PathCacheStatsResponse> cacheStats() {
+        return ResponseEntity.ok().body(pathService.cacheStats());
+    }
+
+    private <T> ResponseEntity<T> versioned(final GraphVersioned<T> response) {
+        return ResponseEntity.ok()
+                .header(GRAPH_VERSION_HEADER, String.valueOf(response.getVersion()))
+                .body(response.getBody());
     }
 }
@@ -0,0 +1,34 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class CacheStatsSteps {
+    public static ExtractableResponse<Response> 엔티티_캐시_통계_조회() {
+        return RestAssured
+                .given().log().all()
+                .when()
+                .get("/cache-stats/entities")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 캐시_통계_조회() {
+        return RestAssured
+                .given().log().all()
+                .when()
+                .get("/cache-stats/caches")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 그래프_생성_통계_조회() {
+        return RestAssured
+                .given().log().all()
+                .when()
+                .get("/cache-stats/graph-rebuilds")
+                .then().log().all()
+                .extract();
+    }
+}
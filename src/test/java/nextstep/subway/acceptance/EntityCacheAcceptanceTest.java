@@ -0,0 +1,80 @@
+package nextstep.subway.acceptance;
+
+import static nextstep.subway.acceptance.CacheStatsSteps.엔티티_캐시_통계_조회;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.PathSteps.최단_경로_조회;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.restassured.path.json.JsonPath;
+import nextstep.subway.utils.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("역, 노선 2차 캐시")
+class EntityCacheAcceptanceTest extends AcceptanceTest {
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private Long 강남역;
+    private Long 양재역;
+    private Long 판교역;
+    private Long 신분당선;
+
+    /**
+     * Given 강남역 - 양재역 - 판교역 노선을 만든다.
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        양재역 = 지하철역_생성_요청("양재역").jsonPath().getLong("id");
+        판교역 = 지하철역_생성_요청("판교역").jsonPath().getLong("id");
+        신분당선 = 지하철_노선_생성_요청("신분당선", "red", 강남역, 양재역, 10).jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(신분당선, 양재역, 판교역, 5);
+    }
+
+    /**
+     * Given 경로 그래프가 만들어진 뒤에
+     * When 다른 출발역과 도착역으로 경로를 조회하면
+     * Then SQL 을 실행하지 않는다.
+     */
+    @DisplayName("저장된 역으로 경로를 조회하면 데이터베이스를 읽지 않는다.")
+    @Test
+    void findPathWithoutDatabase() {
+        // given
+        최단_경로_조회(강남역, 양재역);
+
+        // when
+        var response = queryCounter.assertQueryCountAtMost(0, () -> 최단_경로_조회(양재역, 판교역));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    /**
+     * When 저장된 역으로 구간을 추가하면
+     * Then 두 역을 데이터베이스가 아닌 캐시에서 읽는다.
+     */
+    @DisplayName("구간을 추가할 때 역은 캐시에서 읽는다.")
+    @Test
+    void addSectionWithCachedStations() {
+        // given
+        Long 정자역 = 지하철역_생성_요청("정자역").jsonPath().getLong("id");
+
+        // when
+        var response = 지하철_노선에_지하철_구간_생성_요청(신분당선, 판교역, 정자역, 5);
+
+        // then
+        JsonPath stats = 엔티티_캐시_통계_조회().jsonPath();
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(stats.getLong("find { it.region == 'station' }.hits")).isGreaterThanOrEqualTo(2)
+        );
+    }
+}
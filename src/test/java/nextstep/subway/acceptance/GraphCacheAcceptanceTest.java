@@ -0,0 +1,113 @@
+package nextstep.subway.acceptance;
+
+import static nextstep.subway.acceptance.CacheStatsSteps.그래프_생성_통계_조회;
+import static nextstep.subway.acceptance.CacheStatsSteps.캐시_통계_조회;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.PathSteps.최단_경로_조회;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.restassured.path.json.JsonPath;
+import nextstep.subway.ui.PathController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("경로 그래프 캐시")
+class GraphCacheAcceptanceTest extends AcceptanceTest {
+    private Long 강남역;
+    private Long 양재역;
+    private Long 판교역;
+    private Long 신분당선;
+
+    /**
+     * Given 강남역 - 양재역 - 판교역 노선을 만든다.
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        양재역 = 지하철역_생성_요청("양재역").jsonPath().getLong("id");
+        판교역 = 지하철역_생성_요청("판교역").jsonPath().getLong("id");
+        신분당선 = 지하철_노선_생성_요청("신분당선", "red", 강남역, 양재역, 10).jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(신분당선, 양재역, 판교역, 5);
+    }
+
+    /**
+     * Given 경로를 한 번 조회해 그래프를 만든 뒤에
+     * When 경로를 두 번 더 조회하면
+     * Then 그래프는 다시 만들지 않고 graph 캐시 적중이 2 늘어난다.
+     */
+    @DisplayName("그래프를 만든 뒤의 경로 조회는 graph 캐시에서 적중한다.")
+    @Test
+    void findPathWithCachedGraph() {
+        // given
+        최단_경로_조회(강남역, 판교역);
+        JsonPath before = 캐시_통계_조회().jsonPath();
+        long builds = 그래프_생성_통계_조회().jsonPath().getLong("builds");
+
+        // when
+        최단_경로_조회(강남역, 양재역);
+        최단_경로_조회(양재역, 판교역);
+
+        // then
+        JsonPath after = 캐시_통계_조회().jsonPath();
+        assertAll(
+                () -> assertThat(그래프_생성_통계_조회().jsonPath().getLong("builds")).isEqualTo(builds),
+                () -> assertThat(graphStat(after, "hits")).isEqualTo(graphStat(before, "hits") + 2),
+                () -> assertThat(graphStat(after, "size")).isEqualTo(1)
+        );
+    }
+
+    /**
+     * Given 그래프를 만든 뒤에
+     * When 구간을 추가하면
+     * Then 그래프는 처음부터 다시 만들지 않고, 추가한 구간으로 경로를 찾는다.
+     */
+    @DisplayName("구간을 추가해도 그래프를 처음부터 다시 만들지 않는다.")
+    @Test
+    void addSectionWithoutRebuild() {
+        // given
+        최단_경로_조회(강남역, 판교역);
+        long builds = 그래프_생성_통계_조회().jsonPath().getLong("builds");
+        Long 정자역 = 지하철역_생성_요청("정자역").jsonPath().getLong("id");
+
+        // when
+        지하철_노선에_지하철_구간_생성_요청(신분당선, 판교역, 정자역, 5);
+
+        // then
+        var response = 최단_경로_조회(강남역, 정자역);
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getInt("distance")).isEqualTo(20),
+                () -> assertThat(그래프_생성_통계_조회().jsonPath().getLong("builds")).isEqualTo(builds)
+        );
+    }
+
+    /**
+     * Given 경로를 조회한 뒤에
+     * When 구간을 추가하고 다시 경로를 조회하면
+     * Then 응답 헤더의 그래프 버전이 올라간다.
+     */
+    @DisplayName("경로 조회 응답 헤더에 사용한 그래프 버전을 담는다.")
+    @Test
+    void graphVersionHeader() {
+        // given
+        long before = Long.parseLong(최단_경로_조회(강남역, 판교역).header(PathController.GRAPH_VERSION_HEADER));
+        Long 정자역 = 지하철역_생성_요청("정자역").jsonPath().getLong("id");
+
+        // when
+        지하철_노선에_지하철_구간_생성_요청(신분당선, 판교역, 정자역, 5);
+
+        // then
+        var response = 최단_경로_조회(강남역, 판교역);
+        assertThat(Long.parseLong(response.header(PathController.GRAPH_VERSION_HEADER))).isGreaterThan(before);
+    }
+
+    private long graphStat(final JsonPath stats, final String field) {
+        return stats.getLong("find { it.name == 'graph' }." + field);
+    }
+}
@@ -0,0 +1,162 @@
+package nextstep.subway.acceptance;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.NetworkSteps.노선도_가져오기_요청;
+import static nextstep.subway.acceptance.NetworkSteps.노선도_내보내기_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.restassured.path.json.JsonPath;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("노선도 가져오기 기능")
+class NetworkAcceptanceTest extends AcceptanceTest {
+
+    /**
+     * When 역, 노선, 구간을 한 줄에 하나씩 담은 노선도 가져오기를 요청하면
+     * Then 가져온 개수를 응답하고
+     * Then 노선 목록에서 구간 순서대로 역을 조회할 수 있다.
+     */
+    @DisplayName("역, 노선, 구간을 한 번에 가져온다.")
+    @Test
+    void importNetwork() {
+        // when
+        var response = 노선도_가져오기_요청(String.join("\n",
+                "{\"type\":\"station\",\"key\":\"gangnam\",\"name\":\"강남역\"}",
+                "{\"type\":\"station\",\"key\":\"yangjae\",\"name\":\"양재역\"}",
+                "{\"type\":\"station\",\"key\":\"pangyo\",\"name\":\"판교역\"}",
+                "{\"type\":\"line\",\"key\":\"sinbundang\",\"name\":\"신분당선\",\"color\":\"bg-red-600\"}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"gangnam\",\"downStation\":\"pangyo\",\"distance\":10}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"gangnam\",\"downStation\":\"yangjae\",\"distance\":4}"
+        ));
+
+        // then
+        JsonPath lines = 지하철_노선_목록_조회_요청().jsonPath();
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getLong("stations")).isEqualTo(3),
+                () -> assertThat(response.jsonPath().getLong("lines")).isEqualTo(1),
+                () -> assertThat(response.jsonPath().getLong("sections")).isEqualTo(2),
+                () -> assertThat(lines.getList("name")).containsExactly("신분당선"),
+                () -> assertThat(lines.getList("[0].stations.name")).containsExactly("강남역", "양재역", "판교역")
+        );
+    }
+
+    /**
+     * When 한 줄로 이어지는 구간을 이어지지 않는 순서로 적은 노선도 가져오기를 요청하면
+     * Then 구간을 이어 붙여 가져오고
+     * Then 노선 목록에서 상행 종점부터 역을 조회할 수 있다.
+     */
+    @DisplayName("구간을 이어지는 순서로 적지 않아도 역으로 이어 붙여 가져온다.")
+    @Test
+    void importNetworkWithUnchainedSections() {
+        // when
+        var response = 노선도_가져오기_요청(String.join("\n",
+                "{\"type\":\"station\",\"key\":\"gangnam\",\"name\":\"강남역\"}",
+                "{\"type\":\"station\",\"key\":\"yangjae\",\"name\":\"양재역\"}",
+                "{\"type\":\"station\",\"key\":\"pangyo\",\"name\":\"판교역\"}",
+                "{\"type\":\"station\",\"key\":\"jeongja\",\"name\":\"정자역\"}",
+                "{\"type\":\"line\",\"key\":\"sinbundang\",\"name\":\"신분당선\",\"color\":\"bg-red-600\"}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"gangnam\",\"downStation\":\"yangjae\",\"distance\":4}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"pangyo\",\"downStation\":\"jeongja\",\"distance\":3}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"yangjae\",\"downStation\":\"pangyo\",\"distance\":6}"
+        ));
+
+        // then
+        JsonPath lines = 지하철_노선_목록_조회_요청().jsonPath();
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getLong("sections")).isEqualTo(3),
+                () -> assertThat(lines.getList("[0].stations.name")).containsExactly("강남역", "양재역", "판교역", "정자역")
+        );
+    }
+
+    /**
+     * When 앞에서 정의되지 않은 역을 가리키는 구간이 있는 노선도 가져오기를 요청하면
+     * Then 에러 처리하고 아무것도 저장하지 않는다.
+     */
+    @DisplayName("정의되지 않은 역을 가리키는 구간이 있으면 아무것도 가져오지 않는다.")
+    @Test
+    void importNetworkWithUnknownStation() {
+        // when
+        var response = 노선도_가져오기_요청(String.join("\n",
+                "{\"type\":\"station\",\"key\":\"gangnam\",\"name\":\"강남역\"}",
+                "{\"type\":\"line\",\"key\":\"sinbundang\",\"name\":\"신분당선\",\"color\":\"bg-red-600\"}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"gangnam\",\"downStation\":\"pangyo\",\"distance\":10}"
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(지하철_노선_목록_조회_요청().jsonPath().getList("name")).isEmpty()
+        );
+    }
+
+    /**
+     * When 한 노선의 구간이 다른 노선의 구간 뒤에 다시 나오는 노선도 가져오기를 요청하면
+     * Then 에러 처리하고 아무것도 저장하지 않는다.
+     */
+    @DisplayName("노선별로 이어서 적지 않은 구간이 있으면 아무것도 가져오지 않는다.")
+    @Test
+    void importNetworkWithUngroupedSections() {
+        // when
+        var response = 노선도_가져오기_요청(String.join("\n",
+                "{\"type\":\"station\",\"key\":\"gangnam\",\"name\":\"강남역\"}",
+                "{\"type\":\"station\",\"key\":\"yangjae\",\"name\":\"양재역\"}",
+                "{\"type\":\"station\",\"key\":\"pangyo\",\"name\":\"판교역\"}",
+                "{\"type\":\"station\",\"key\":\"gyodae\",\"name\":\"교대역\"}",
+                "{\"type\":\"line\",\"key\":\"sinbundang\",\"name\":\"신분당선\",\"color\":\"bg-red-600\"}",
+                "{\"type\":\"line\",\"key\":\"line2\",\"name\":\"2호선\",\"color\":\"bg-green-600\"}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"gangnam\",\"downStation\":\"yangjae\",\"distance\":4}",
+                "{\"type\":\"section\",\"line\":\"line2\",\"upStation\":\"gyodae\",\"downStation\":\"gangnam\",\"distance\":3}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"yangjae\",\"downStation\":\"pangyo\",\"distance\":6}"
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(지하철_노선_목록_조회_요청().jsonPath().getList("name")).isEmpty()
+        );
+    }
+
+    /**
+     * Given 구간이 있는 노선과 구간이 없는 노선이 있을 때
+     * When 노선도 내보내기를 요청하면
+     * Then 노선 하나당 한 줄씩, 역을 상행역부터 하행역 순으로 응답한다.
+     */
+    @DisplayName("노선과 정렬된 역을 한 줄에 하나씩 내보낸다.")
+    @Test
+    void exportNetwork() {
+        // given
+        노선도_가져오기_요청(String.join("\n",
+                "{\"type\":\"station\",\"key\":\"gangnam\",\"name\":\"강남역\"}",
+                "{\"type\":\"station\",\"key\":\"yangjae\",\"name\":\"양재역\"}",
+                "{\"type\":\"station\",\"key\":\"pangyo\",\"name\":\"판교역\"}",
+                "{\"type\":\"line\",\"key\":\"sinbundang\",\"name\":\"신분당선\",\"color\":\"bg-red-600\"}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"yangjae\",\"downStation\":\"pangyo\",\"distance\":6}",
+                "{\"type\":\"section\",\"line\":\"sinbundang\",\"upStation\":\"gangnam\",\"downStation\":\"yangjae\",\"distance\":4}"
+        ));
+        지하철_노선_생성_요청("2호선", "bg-green-600");
+
+        // when
+        var response = 노선도_내보내기_요청();
+
+        // then
+        List<JsonPath> lines = response.asString().lines()
+                .map(JsonPath::from)
+                .collect(Collectors.toList());
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(lines.get(0).getString("name")).isEqualTo("신분당선"),
+                () -> assertThat(lines.get(0).getList("stations.name")).containsExactly("강남역", "양재역", "판교역"),
+                () -> assertThat(lines.get(1).getString("name")).isEqualTo("2호선"),
+                () -> assertThat(lines.get(1).getList("stations")).isEmpty()
+        );
+    }
+}
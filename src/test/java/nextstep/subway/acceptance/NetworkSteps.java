@@ -0,0 +1,30 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class NetworkSteps {
+    private static final String NDJSON = "application/x-ndjson";
+
+    public static ExtractableResponse<Response> 노선도_가져오기_요청(final String records) {
+        return RestAssured
+                .given().log().all()
+                .body(records)
+                .contentType(NDJSON)
+                .when()
+                .post("network/import")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 노선도_내보내기_요청() {
+        return RestAssured
+                .given().log().all()
+                .accept(NDJSON)
+                .when()
+                .get("network/export")
+                .then().log().all()
+                .extract();
+    }
+}
@@ -6,13 +6,20 @@ import static nextstep.subway.acceptance.PathAcceptanceAssert.경로_조회시_
 import static nextstep.subway.acceptance.PathAcceptanceAssert.경로_조회시_출발역과_도착역이_연결되어_있지_않으면_예외_발생;
 import static nextstep.subway.acceptance.PathAcceptanceAssert.경로_조회시_출발역과_도착역이_일치하면_예외_발생;
 import static nextstep.subway.acceptance.PathAcceptanceAssert.최단_경로_조회_검증;
+import static nextstep.subway.acceptance.PathSteps.거리_행렬_조회;
+import static nextstep.subway.acceptance.PathSteps.도달_가능한_역_조회;
+import static nextstep.subway.acceptance.PathSteps.최단_경로_일괄_조회;
 import static nextstep.subway.acceptance.PathSteps.최단_경로_조회;
 import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import io.restassured.path.json.JsonPath;
 import java.util.List;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 
 @DisplayName("경로 조회 관련 기능")
 public class PathFinderAcceptanceTest extends AcceptanceTest {
@@ -123,4 +130,80 @@ public class PathFinderAcceptanceTest extends AcceptanceTest {
         // when & then
         경로_조회시_존재하지_않는_역이면_예외_발생(강남역, 존재하지않는역);
     }
+
+    /**
+     * When 여러 출발역과 도착역으로 경로 일괄 조회를 요청하면
+     * Then 요청한 순서대로 각 최단 경로를 반환한다.
+     */
+    @DisplayName("경로 일괄 조회를 요청하면 요청한 순서대로 각 최단 경로를 반환한다.")
+    @Test
+    void findShortestPaths() {
+        // when
+        var response = 최단_경로_일괄_조회(List.of(
+                List.of(강남역, 남부터미널역),
+                List.of(남부터미널역, 강남역),
+                List.of(교대역, 양재역)
+        ));
+
+        // then
+        JsonPath jsonPath = response.jsonPath();
+        Assertions.assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(jsonPath.getList("[0].stations.id", Long.class)).containsExactly(강남역, 교대역, 남부터미널역),
+                () -> assertThat(jsonPath.getList("[1].stations.id", Long.class)).containsExactly(남부터미널역, 교대역, 강남역),
+                () -> assertThat(jsonPath.getList("distance", Long.class)).containsExactly(12L, 12L, 5L)
+        );
+    }
+
+    /**
+     * When 경로 일괄 조회에 존재하지 않는 역이 포함되어 있으면
+     * Then 에러 처리한다.
+     */
+    @DisplayName("경로 일괄 조회에 존재하지 않는 역이 포함되어 있으면 에러 처리한다.")
+    @Test
+    void findShortestPathsIsStationNotExist() {
+        // when
+        var response = 최단_경로_일괄_조회(List.of(List.of(강남역, 남부터미널역), List.of(강남역, 0L)));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 출발역 목록과 도착역 목록으로 거리 행렬을 요청하면
+     * Then 각 출발역에서 각 도착역까지의 거리를 반환하고
+     * And 갈 수 없는 역의 거리는 비워서 반환한다.
+     */
+    @DisplayName("거리 행렬을 요청하면 각 출발역에서 각 도착역까지의 거리를 반환하고 갈 수 없는 역은 비워서 반환한다.")
+    @Test
+    void findDistanceMatrix() {
+        // when
+        var response = 거리_행렬_조회(List.of(강남역, 교대역), List.of(남부터미널역, 양재역, 죽전역));
+
+        // then
+        JsonPath jsonPath = response.jsonPath();
+        Assertions.assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(jsonPath.getList("distances[0]")).containsExactly(12, 10, null),
+                () -> assertThat(jsonPath.getList("distances[1]")).containsExactly(2, 5, null)
+        );
+    }
+
+    /**
+     * When 출발역과 거리로 도달 가능한 역 조회를 요청하면
+     * Then 그 거리 이하로 닿는 역과 거리를 가까운 순서로 반환한다.
+     */
+    @DisplayName("도달 가능한 역 조회를 요청하면 주어진 거리 이하로 닿는 역과 거리를 가까운 순서로 반환한다.")
+    @Test
+    void findReachableStations() {
+        // when
+        var response = 도달_가능한_역_조회(교대역, 5);
+
+        // then
+        JsonPath jsonPath = response.jsonPath();
+        Assertions.assertAll(
+                () -> assertThat(jsonPath.getList("id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역),
+                () -> assertThat(jsonPath.getList("distance", Long.class)).containsExactly(0L, 2L, 5L)
+        );
+    }
 }
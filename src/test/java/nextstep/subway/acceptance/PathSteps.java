@@ -3,6 +3,10 @@ package nextstep.subway.acceptance;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.http.MediaType;
 
 public class PathSteps {
     
@@ -14,4 +18,38 @@ public class PathSteps {
                 .then().log().all()
                 .extract();
     }
+
+    public static ExtractableResponse<Response> 최단_경로_일괄_조회(final List<List<Long>> sourceAndTargets) {
+        List<Map<String, Long>> params = sourceAndTargets.stream()
+                .map(pair -> Map.of("source", pair.get(0), "target", pair.get(1)))
+                .collect(Collectors.toList());
+        return RestAssured
+                .given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("paths/batch")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 거리_행렬_조회(final List<Long> sources, final List<Long> targets) {
+        return RestAssured
+                .given().log().all()
+                .body(Map.of("sources", sources, "targets", targets))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("paths/matrix")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 도달_가능한_역_조회(final Long source, final int distance) {
+        return RestAssured
+                .given().log().all()
+                .when()
+                .get("paths/reachable?source={source}&distance={distance}", source, distance)
+                .then().log().all()
+                .extract();
+    }
 }
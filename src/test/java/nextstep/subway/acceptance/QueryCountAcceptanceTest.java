@@ -0,0 +1,95 @@
+package nextstep.subway.acceptance;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_조회_요청;
+import static nextstep.subway.acceptance.NetworkSteps.노선도_가져오기_요청;
+import static nextstep.subway.acceptance.PathSteps.최단_경로_조회;
+import static nextstep.subway.acceptance.StationSteps.지하철역_조회_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import nextstep.subway.utils.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("조회 요청의 SQL 수")
+class QueryCountAcceptanceTest extends AcceptanceTest {
+    private static final int LINES = 3;
+    private static final int SECTIONS_PER_LINE = 50;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private Long 노선;
+    private List<Long> 역;
+
+    /**
+     * Given 구간이 많은 노선 여러 개를 가져온다.
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        노선도_가져오기_요청(network());
+        노선 = 지하철_노선_목록_조회_요청().jsonPath().getLong("[0].id");
+        역 = 지하철역_조회_요청().jsonPath().getList("id", Long.class);
+    }
+
+    @DisplayName("노선 목록 조회는 노선과 구간 수와 관계없이 SQL 1개로 끝난다.")
+    @Test
+    void showLines() {
+        var response = queryCounter.assertQueryCountAtMost(1, () -> 지하철_노선_목록_조회_요청());
+
+        assertThat(response.jsonPath().getList("id")).hasSize(LINES);
+    }
+
+    @DisplayName("노선 조회는 구간 수와 관계없이 SQL 1개로 끝난다.")
+    @Test
+    void showLine() {
+        var response = queryCounter.assertQueryCountAtMost(1, () -> 지하철_노선_조회_요청(노선));
+
+        assertThat(response.jsonPath().getList("stations")).hasSize(SECTIONS_PER_LINE + 1);
+    }
+
+    @DisplayName("역 목록 조회는 SQL 1개로 끝난다.")
+    @Test
+    void showStations() {
+        var response = queryCounter.assertQueryCountAtMost(1, () -> 지하철역_조회_요청());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    /**
+     * 그래프를 처음 만들 때 구간, 역을 한 번씩 읽고, 출발역과 도착역을 한 번씩 읽는다.
+     */
+    @DisplayName("경로 조회는 구간 수와 관계없이 SQL 4개 이하로 끝난다.")
+    @Test
+    void findPath() {
+        var response = queryCounter.assertQueryCountAtMost(4, () -> 최단_경로_조회(역.get(0), 역.get(역.size() - 1)));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    /**
+     * 노선마다 앞 노선의 마지막 역에서 시작하도록 역과 구간을 만든다.
+     */
+    private String network() {
+        int stations = LINES * SECTIONS_PER_LINE + 1;
+        Stream<String> stationRecords = IntStream.range(0, stations)
+                .mapToObj(i -> String.format("{\"type\":\"station\",\"key\":\"s%d\",\"name\":\"역%d\"}", i, i));
+        Stream<String> lineRecords = IntStream.range(0, LINES)
+                .mapToObj(l -> String.format("{\"type\":\"line\",\"key\":\"l%d\",\"name\":\"노선%d\",\"color\":\"red\"}", l, l));
+        Stream<String> sectionRecords = IntStream.range(0, LINES * SECTIONS_PER_LINE)
+                .mapToObj(i -> String.format(
+                        "{\"type\":\"section\",\"line\":\"l%d\",\"upStation\":\"s%d\",\"downStation\":\"s%d\",\"distance\":10}",
+                        i / SECTIONS_PER_LINE, i, i + 1));
+        return Stream.of(stationRecords, lineRecords, sectionRecords)
+                .flatMap(records -> records)
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -2,6 +2,7 @@ package nextstep.subway.acceptance;
 
 import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
 import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_일괄_생성_요청;
 import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_제거_요청;
 import static nextstep.subway.acceptance.SectionAcceptanceAssert.신규구간_추가시_상행역과_하행역_모두_노선에_존재하지_않는_역이면_예외_발생;
 import static nextstep.subway.acceptance.SectionAcceptanceAssert.기존_구간_사이에_신규_구간을_추가_검증;
@@ -17,6 +18,8 @@ import static nextstep.subway.acceptance.SectionAcceptanceAssert.지하철_노
 import static nextstep.subway.acceptance.SectionAcceptanceAssert.지하철_노선에_중간역을_제거_검증;
 import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
 
 @DisplayName("지하철 구간 관리 기능")
 class SectionAcceptanceTest extends AcceptanceTest {
@@ -144,6 +148,42 @@ class SectionAcceptanceTest extends AcceptanceTest {
             // when & then
             신규구간_추가시_상행역과_하행역_모두_노선에_존재하지_않는_역이면_예외_발생(신분당선, 선릉역, 정자역);
         }
+
+        /**
+         * When 여러 구간을 순서대로 한 번에 추가를 요청 하면
+         * Then 노선에 구간들이 요청 순서대로 추가된다.
+         */
+        @DisplayName("여러 구간을 한 번에 추가한다.")
+        @Test
+        void addLineSections() {
+            // when
+            var response = 지하철_노선에_지하철_구간_일괄_생성_요청(신분당선, List.of(
+                    createSectionCreateParams(양재역, 정자역, 6),
+                    createSectionCreateParams(강남역, 선릉역, 3)
+            ));
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            노선_조회시_상행역_부터_하행역_순으로_조회_검증(신분당선, List.of(강남역, 선릉역, 양재역, 정자역));
+        }
+
+        /**
+         * When 한 번에 추가를 요청한 구간 중 하나라도 규칙에 어긋나면
+         * Then 에러 처리하고 어떤 구간도 추가되지 않는다.
+         */
+        @DisplayName("한 번에 추가하는 구간 중 하나라도 규칙에 어긋나면 어떤 구간도 추가하지 않는다.")
+        @Test
+        void addLineSectionsRollback() {
+            // when
+            var response = 지하철_노선에_지하철_구간_일괄_생성_요청(신분당선, List.of(
+                    createSectionCreateParams(양재역, 정자역, 6),
+                    createSectionCreateParams(강남역, 정자역, 3)
+            ));
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+            노선_조회시_상행역_부터_하행역_순으로_조회_검증(신분당선, List.of(강남역, 양재역));
+        }
     }
 
     @DisplayName("구간 제거 관련 기능")
@@ -0,0 +1,113 @@
+package nextstep.subway.applicaion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import nextstep.subway.applicaion.dto.GraphRebuildStatsResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("그래프 생성 합치기")
+class GraphRebuilderTest {
+    private static final int CALLERS = 8;
+
+    private GraphRebuilder graphRebuilder;
+    private ExecutorService executor;
+    private AtomicInteger buildCount;
+    private CountDownLatch started;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        graphRebuilder = new GraphRebuilder();
+        executor = Executors.newFixedThreadPool(CALLERS);
+        buildCount = new AtomicInteger();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("동시에 들어온 호출은 하나의 생성을 같이 기다린다.")
+    @Test
+    void waitForSingleBuild() throws Exception {
+        Future<GraphBuild> leader = executor.submit(() -> graphRebuilder.rebuild(blockingBuilder()));
+        started.await();
+        List<Future<GraphBuild>> followers = submitFollowers(() -> graphRebuilder.rebuild(this::build));
+        awaitWaiting(CALLERS - 1);
+
+        release.countDown();
+
+        GraphBuild build = leader.get(5, TimeUnit.SECONDS);
+        GraphRebuildStatsResponse stats = graphRebuilder.stats();
+        assertAll(
+                () -> assertThat(followers).allSatisfy(follower -> assertThat(follower.get()).isSameAs(build)),
+                () -> assertThat(buildCount.get()).isEqualTo(1),
+                () -> assertThat(stats.getBuilds()).isEqualTo(1),
+                () -> assertThat(stats.getWaited()).isEqualTo(CALLERS - 1)
+        );
+    }
+
+    @DisplayName("변경 이후의 생성을 요청하면 먼저 시작한 생성에 합류하지 않고 그 뒤에 새로 만든다.")
+    @Test
+    void rebuildAfterRunningBuild() throws Exception {
+        Future<GraphBuild> leader = executor.submit(() -> graphRebuilder.rebuild(blockingBuilder()));
+        started.await();
+        Future<GraphBuild> reload = executor.submit(() -> graphRebuilder.rebuildAfterNow(this::build));
+
+        release.countDown();
+
+        GraphBuild first = leader.get(5, TimeUnit.SECONDS);
+        GraphBuild reloaded = reload.get(5, TimeUnit.SECONDS);
+        assertAll(
+                () -> assertThat(reloaded).isNotSameAs(first),
+                () -> assertThat(buildCount.get()).isEqualTo(2)
+        );
+    }
+
+    private List<Future<GraphBuild>> submitFollowers(final Supplier<GraphBuild> call) {
+        List<Future<GraphBuild>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(call::get));
+        }
+        return followers;
+    }
+
+    private void awaitWaiting(final long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (graphRebuilder.stats().getWaited() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private Supplier<GraphBuild> blockingBuilder() {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return build();
+        };
+    }
+
+    private GraphBuild build() {
+        int count = buildCount.incrementAndGet();
+        return new GraphBuild(count, 3, 2, 0, 0);
+    }
+}
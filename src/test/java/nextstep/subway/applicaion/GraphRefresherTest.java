@@ -0,0 +1,76 @@
+package nextstep.subway.applicaion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("경로 그래프 백그라운드 갱신")
+class GraphRefresherTest {
+
+    private PathFinderService pathFinderService;
+    private GraphRefresher graphRefresher;
+
+    @BeforeEach
+    void setUp() {
+        pathFinderService = mock(PathFinderService.class);
+        when(pathFinderService.reloadGraph()).thenReturn(new GraphBuild(1L, 3, 2, 0, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (graphRefresher != null) {
+            graphRefresher.destroy();
+        }
+    }
+
+    @DisplayName("incremental 모드에서는 백그라운드 갱신을 쓰지 않는다.")
+    @Test
+    void disabledByDefault() {
+        graphRefresher = new GraphRefresher(
+                pathFinderService, "incremental", Duration.ofMillis(50), Duration.ofSeconds(1));
+
+        assertThat(graphRefresher.isEnabled()).isFalse();
+    }
+
+    @DisplayName("debounce 안에 이어진 변경은 한 번의 갱신으로 합친다.")
+    @Test
+    void debounceBurst() throws InterruptedException {
+        graphRefresher = new GraphRefresher(
+                pathFinderService, "background", Duration.ofMillis(100), Duration.ofSeconds(5));
+
+        for (int i = 0; i < 5; i++) {
+            graphRefresher.markDirty();
+        }
+
+        verify(pathFinderService, never()).reloadGraph();
+        verify(pathFinderService, timeout(2_000)).reloadGraph();
+        Thread.sleep(300);
+        verify(pathFinderService, times(1)).reloadGraph();
+    }
+
+    @DisplayName("변경이 계속 이어져도 첫 변경 후 max-staleness 가 지나면 갱신한다.")
+    @Test
+    void refreshWithinMaxStaleness() throws InterruptedException {
+        graphRefresher = new GraphRefresher(
+                pathFinderService, "background", Duration.ofMillis(200), Duration.ofMillis(300));
+
+        long deadline = System.nanoTime() + Duration.ofMillis(700).toNanos();
+        while (System.nanoTime() < deadline) {
+            graphRefresher.markDirty();
+            Thread.sleep(20);
+        }
+
+        verify(pathFinderService, atLeastOnce()).reloadGraph();
+    }
+}
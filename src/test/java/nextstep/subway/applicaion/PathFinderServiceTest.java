@@ -0,0 +1,138 @@
+package nextstep.subway.applicaion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import nextstep.subway.applicaion.dto.GraphRebuildStatsResponse;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.infra.CsrShortestPathImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+@DisplayName("경로 그래프 생성 서비스")
+class PathFinderServiceTest {
+    private static final int CALLERS = 8;
+
+    private SectionRepository sectionRepository;
+    private PlatformTransactionManager transactionManager;
+    private GraphRebuilder graphRebuilder;
+    private PathFinderService pathFinderService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        sectionRepository = mock(SectionRepository.class);
+        StationRepository stationRepository = mock(StationRepository.class);
+        when(stationRepository.findAllDetached()).thenReturn(List.of());
+        when(sectionRepository.streamAllTuples()).thenAnswer(invocation -> Stream.empty());
+        transactionManager = mock(PlatformTransactionManager.class);
+        graphRebuilder = new GraphRebuilder();
+        pathFinderService = new PathFinderService(
+                new PathFinder(new CsrShortestPathImpl()),
+                stationRepository,
+                sectionRepository,
+                graphRebuilder,
+                new ConcurrentMapCacheManager(GraphBuild.CACHE_NAME),
+                transactionManager
+        );
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("그래프가 없을 때 동시에 들어온 경로 조회는 구간을 한 번만 읽고 같은 생성 결과를 받는다.")
+    @Test
+    void initGraphOnceForConcurrentCallers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(sectionRepository.streamAllTuples()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return Stream.empty();
+        });
+        Future<GraphBuild> leader = executor.submit(pathFinderService::initGraph);
+        started.await();
+        List<Future<GraphBuild>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(pathFinderService::initGraph));
+        }
+        awaitWaiting(CALLERS - 1);
+
+        release.countDown();
+
+        GraphBuild build = leader.get(5, TimeUnit.SECONDS);
+        GraphRebuildStatsResponse stats = graphRebuilder.stats();
+        assertAll(
+                () -> assertThat(followers).allSatisfy(follower -> assertThat(follower.get()).isSameAs(build)),
+                () -> assertThat(stats.getBuilds()).isEqualTo(1),
+                () -> assertThat(stats.getWaited()).isEqualTo(CALLERS - 1)
+        );
+        verify(sectionRepository, times(1)).streamAllTuples();
+    }
+
+    @DisplayName("그래프를 만든 뒤의 경로 조회는 다시 만들지 않고, 노선도를 가져온 뒤의 다시 읽기는 새로 만든다.")
+    @Test
+    void reloadGraphAfterInit() {
+        GraphBuild first = pathFinderService.initGraph();
+        GraphBuild cached = pathFinderService.initGraph();
+
+        GraphBuild reloaded = pathFinderService.reloadGraph();
+
+        assertAll(
+                () -> assertThat(cached).isSameAs(first),
+                () -> assertThat(reloaded).isNotSameAs(first),
+                () -> assertThat(pathFinderService.initGraph()).isSameAs(reloaded),
+                () -> assertThat(graphRebuilder.stats().getBuilds()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("처음 만들 때는 호출자의 트랜잭션에 참여하고, 다시 읽을 때는 새 읽기 전용 트랜잭션을 연다.")
+    @Test
+    void transactionPerBuild() {
+        pathFinderService.initGraph();
+        pathFinderService.reloadGraph();
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        assertAll(
+                () -> assertThat(definitions.getAllValues()).extracting(TransactionDefinition::getPropagationBehavior)
+                        .containsExactly(
+                                TransactionDefinition.PROPAGATION_REQUIRED,
+                                TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                        ),
+                () -> assertThat(definitions.getAllValues()).allSatisfy(
+                        definition -> assertThat(definition.isReadOnly()).isTrue()
+                )
+        );
+    }
+
+    private void awaitWaiting(final long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (graphRebuilder.stats().getWaited() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
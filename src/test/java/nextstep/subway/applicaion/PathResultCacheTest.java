@@ -0,0 +1,90 @@
+package nextstep.subway.applicaion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import nextstep.subway.applicaion.dto.PathCacheStatsResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("경로 조회 결과 캐시")
+class PathResultCacheTest {
+
+    private static final long 교대역 = 1L;
+    private static final long 강남역 = 2L;
+    private static final long 양재역 = 3L;
+
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("출발역과 도착역을 바꾼 조회는 같은 항목을 쓰고 역 순서만 뒤집어 반환한다.")
+    @Test
+    void reverseSharesEntry() {
+        PathResultCache cache = new PathResultCache(10);
+
+        cache.get(교대역, 양재역, 1L, loader(교대역, 강남역, 양재역));
+        PathResponse reversed = cache.get(양재역, 교대역, 1L, loader(양재역, 강남역, 교대역));
+
+        PathCacheStatsResponse stats = cache.stats();
+        assertAll(
+                () -> assertThat(reversed.getStations()).extracting("id").containsExactly(양재역, 강남역, 교대역),
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(stats.getHits()).isEqualTo(1),
+                () -> assertThat(stats.getMisses()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("그래프 버전이 바뀌면 이전 버전의 결과를 쓰지 않는다.")
+    @Test
+    void invalidateOnNewVersion() {
+        PathResultCache cache = new PathResultCache(10);
+
+        cache.get(교대역, 양재역, 1L, loader(교대역, 강남역, 양재역));
+        cache.get(교대역, 양재역, 2L, loader(교대역, 양재역));
+
+        assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(2),
+                () -> assertThat(cache.stats().getSize()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 먼저 들어온 항목을 내보낸다.")
+    @Test
+    void evictWhenFull() {
+        PathResultCache cache = new PathResultCache(2);
+
+        cache.get(교대역, 강남역, 1L, loader(교대역, 강남역));
+        cache.get(강남역, 양재역, 1L, loader(강남역, 양재역));
+        cache.get(교대역, 양재역, 1L, loader(교대역, 양재역));
+        cache.get(교대역, 강남역, 1L, loader(교대역, 강남역));
+
+        PathCacheStatsResponse stats = cache.stats();
+        assertAll(
+                () -> assertThat(stats.getSize()).isEqualTo(2),
+                () -> assertThat(stats.getEvictions()).isEqualTo(2),
+                () -> assertThat(stats.getMisses()).isEqualTo(4)
+        );
+    }
+
+    private Supplier<PathResponse> loader(final Long... stationIds) {
+        return () -> {
+            loadCount.incrementAndGet();
+            List<StationResponse> stations = new ArrayList<>();
+            for (Long stationId : stationIds) {
+                stations.add(new StationResponse(stationId, stationId + "번역"));
+            }
+            return new PathResponse(stations, 10);
+        };
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.TestConstructor.AutowireMode;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,15 +28,18 @@ class PathServiceTest {
     private final LineRepository lineRepository;
     private final StationRepository stationRepository;
     private final PathService pathService;
+    private final CacheManager cacheManager;
 
     public PathServiceTest(
             final LineRepository lineRepository,
             final StationRepository stationRepository,
-            final PathService pathService
+            final PathService pathService,
+            final CacheManager cacheManager
     ) {
         this.lineRepository = lineRepository;
         this.stationRepository = stationRepository;
         this.pathService = pathService;
+        this.cacheManager = cacheManager;
     }
 
     private Line 삼호선;
@@ -53,6 +57,7 @@ class PathServiceTest {
     void setUp() {
         lineRepository.deleteAll();
         stationRepository.deleteAll();
+        cacheManager.getCache("graph").clear();
 
         삼호선 = new Line("3호선", "bg-orange-500");
         이호선 = new Line("2호선", "bg-green-500");
@@ -88,7 +93,7 @@ class PathServiceTest {
         수인분당선.addSection(new Section(수인분당선, 양재역, 정자역, 9));
 
         // when
-        PathResponse path = pathService.findPathBy(남부터미널역.getId(), 정자역.getId());
+        PathResponse path = pathService.findPathBy(남부터미널역.getId(), 정자역.getId()).getBody();
 
         // then
         assertAll(
@@ -0,0 +1,166 @@
+package nextstep.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import nextstep.subway.domain.exception.AddSectionConstraintException;
+import nextstep.subway.domain.exception.RemoveSectionsSizeException;
+import nextstep.subway.domain.exception.StationNotInSectionsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("역에 닿은 구간만으로 구간을 수정하는 기능")
+class PartialSectionsTest {
+    private static final int GAP = Section.POSITION_GAP;
+
+    private Station 강남역;
+    private Station 역삼역;
+    private Station 선릉역;
+    private Station 삼성역;
+    private Station 정자역;
+    private Line line;
+    private List<int[]> shifts;
+
+    @BeforeEach
+    void setUp() {
+        this.강남역 = new Station("강남역");
+        this.역삼역 = new Station("역삼역");
+        this.선릉역 = new Station("선릉역");
+        this.삼성역 = new Station("삼성역");
+        this.정자역 = new Station("정자역");
+        this.line = new Line("2호선", "bg-green-500");
+        this.shifts = new ArrayList<>();
+    }
+
+    private Section 구간(final Station upStation, final Station downStation, final int distance, final int position) {
+        Section section = new Section(line, upStation, downStation, distance);
+        section.changePosition(position);
+        return section;
+    }
+
+    private PositionShifter shifter() {
+        return (from, offset) -> shifts.add(new int[]{from, offset});
+    }
+
+    /**
+     * 강남역 - 역삼역 - 선릉역 - 삼성역 중 역삼역 - 선릉역 사이에 정자역을 추가한다.
+     */
+    @DisplayName("기존 구간 사이에 구간을 추가하면 기존 구간을 줄이고, 앞 구간과의 사이 position 에 놓아 다른 구간은 옮기지 않는다.")
+    @Test
+    void addBetween() {
+        Section existingSection = 구간(역삼역, 선릉역, 10, GAP);
+        PartialSections sections = new PartialSections(3, List.of(구간(강남역, 역삼역, 10, 0), existingSection));
+        Section section = new Section(line, 역삼역, 정자역, 4);
+
+        SectionsChangedEvent event = sections.add(section, shifter());
+
+        assertAll(
+                () -> assertThat(event.getUpserted()).containsExactly(existingSection, section),
+                () -> assertThat(shifts).isEmpty(),
+                () -> assertThat(section.getPosition()).isEqualTo(GAP / 2),
+                () -> assertThat(existingSection.getPosition()).isEqualTo(GAP),
+                () -> assertThat(existingSection.getUpStation()).isEqualTo(정자역),
+                () -> assertThat(existingSection.getDistance()).isEqualTo(new Distance(6))
+        );
+    }
+
+    /**
+     * 강남역 - 역삼역 - 선릉역 - 삼성역 의 position 이 빈 번호 없이 이어져 있을 때 역삼역 - 선릉역 사이에 정자역을 추가한다.
+     */
+    @DisplayName("앞뒤 구간 사이에 빈 position 이 없으면 뒤따르는 구간의 position 을 한 간격 밀어 자리를 만든다.")
+    @Test
+    void addBetweenWithoutGap() {
+        Section existingSection = 구간(역삼역, 선릉역, 10, 1);
+        PartialSections sections = new PartialSections(3, List.of(구간(강남역, 역삼역, 10, 0), existingSection));
+        Section section = new Section(line, 역삼역, 정자역, 4);
+
+        sections.add(section, shifter());
+
+        assertAll(
+                () -> assertThat(shifts).containsExactly(new int[]{1, GAP}),
+                () -> assertThat(existingSection.getPosition()).isEqualTo(1 + GAP),
+                () -> assertThat(section.getPosition()).isBetween(1, GAP)
+        );
+    }
+
+    @DisplayName("상행 종점 앞에 구간을 추가하면 상행 종점 구간보다 한 간격 앞에 놓고 다른 구간은 옮기지 않는다.")
+    @Test
+    void addUpStation() {
+        Section lineUpSection = 구간(강남역, 역삼역, 10, 0);
+        PartialSections sections = new PartialSections(3, List.of(lineUpSection));
+        Section section = new Section(line, 정자역, 강남역, 4);
+
+        sections.add(section, shifter());
+
+        assertAll(
+                () -> assertThat(shifts).isEmpty(),
+                () -> assertThat(section.getPosition()).isEqualTo(-GAP),
+                () -> assertThat(lineUpSection.getPosition()).isZero()
+        );
+    }
+
+    @DisplayName("하행 종점 뒤에 구간을 추가하면 하행 종점 구간보다 한 간격 뒤에 놓고 다른 구간은 옮기지 않는다.")
+    @Test
+    void addDownStation() {
+        PartialSections sections = new PartialSections(3, List.of(구간(선릉역, 삼성역, 10, 2 * GAP)));
+        Section section = new Section(line, 삼성역, 정자역, 4);
+
+        sections.add(section, shifter());
+
+        assertAll(
+                () -> assertThat(shifts).isEmpty(),
+                () -> assertThat(section.getPosition()).isEqualTo(3 * GAP)
+        );
+    }
+
+    @DisplayName("구간의 두 역이 모두 닿은 구간에 없으면 에러 처리한다.")
+    @Test
+    void addNonIncludeStation() {
+        PartialSections sections = new PartialSections(3, List.of());
+
+        assertThatThrownBy(() -> sections.add(new Section(line, 정자역, new Station("판교역"), 4), shifter()))
+                .isInstanceOf(AddSectionConstraintException.class);
+    }
+
+    /**
+     * 강남역 - 역삼역 - 선릉역 - 삼성역 에서 역삼역을 제거한다.
+     */
+    @DisplayName("가운데 역을 제거하면 두 구간을 합쳐 뒤 구간의 position 에 놓고 다른 구간은 옮기지 않는다.")
+    @Test
+    void removeMiddle() {
+        Section sectionToRemoveDownStation = 구간(강남역, 역삼역, 10, 0);
+        Section sectionToRemoveUpStation = 구간(역삼역, 선릉역, 5, GAP);
+        PartialSections sections = new PartialSections(3, List.of(sectionToRemoveDownStation, sectionToRemoveUpStation));
+
+        SectionsChangedEvent event = sections.remove(역삼역);
+
+        Section relocateSection = event.getUpserted().get(0);
+        assertAll(
+                () -> assertThat(event.getRemoved()).containsExactly(sectionToRemoveDownStation, sectionToRemoveUpStation),
+                () -> assertThat(relocateSection.getUpStation()).isEqualTo(강남역),
+                () -> assertThat(relocateSection.getDownStation()).isEqualTo(선릉역),
+                () -> assertThat(relocateSection.getDistance()).isEqualTo(new Distance(15)),
+                () -> assertThat(relocateSection.getPosition()).isEqualTo(GAP)
+        );
+    }
+
+    @DisplayName("닿은 구간이 없는 역을 제거하면 에러 처리한다.")
+    @Test
+    void removeNotIncludeStation() {
+        PartialSections sections = new PartialSections(3, List.of());
+
+        assertThatThrownBy(() -> sections.remove(정자역)).isInstanceOf(StationNotInSectionsException.class);
+    }
+
+    @DisplayName("구간이 하나뿐인 노선에서 역을 제거하면 에러 처리한다.")
+    @Test
+    void removeFailSectionsOnlyContainUpStationAndDownStation() {
+        PartialSections sections = new PartialSections(1, List.of(구간(강남역, 역삼역, 10, 0)));
+
+        assertThatThrownBy(() -> sections.remove(역삼역)).isInstanceOf(RemoveSectionsSizeException.class);
+    }
+}
@@ -5,12 +5,23 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.domain.dto.ReachDto;
 import nextstep.subway.domain.exception.PathFindException;
+import nextstep.subway.infra.AltShortestPathImpl;
+import nextstep.subway.infra.BidirectionalDijkstraImpl;
+import nextstep.subway.infra.ContractionHierarchyImpl;
+import nextstep.subway.infra.CsrShortestPathImpl;
 import nextstep.subway.infra.DijkstraShortestPathImpl;
+import nextstep.subway.utils.GraphSourceFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @DisplayName("경로 관련 기능")
 class PathFinderTest {
@@ -33,11 +44,33 @@ class PathFinderTest {
         신분당선 = new Line("신분당선", "bg-red-500");
         수인분당선 = new Line("수인분당선", "bg-yellow-500");
 
-        남부터미널역 = new Station("남부터미널역");
-        교대역 = new Station("교대역");
-        강남역 = new Station("강남역");
-        양재역 = new Station("양재역");
-        정자역 = new Station("정자역");
+        남부터미널역 = 역(1L, "남부터미널역");
+        교대역 = 역(2L, "교대역");
+        강남역 = 역(3L, "강남역");
+        양재역 = 역(4L, "양재역");
+        정자역 = 역(5L, "정자역");
+    }
+
+    private static Stream<Named<Supplier<Path>>> paths() {
+        return Stream.of(
+                Named.of("jgrapht 다익스트라", DijkstraShortestPathImpl::new),
+                Named.of("CSR 다익스트라", CsrShortestPathImpl::new),
+                Named.of("양방향 다익스트라", BidirectionalDijkstraImpl::new),
+                Named.of("ALT", AltShortestPathImpl::new),
+                Named.of("축약 계층", ContractionHierarchyImpl::new)
+        );
+    }
+
+    private PathFinder 경로_탐색기(final Supplier<Path> path, final Line... lines) {
+        PathFinder pathFinder = new PathFinder(path.get());
+        pathFinder.load(() -> GraphSourceFixture.of(lines));
+        return pathFinder;
+    }
+
+    private Station 역(final long id, final String name) {
+        Station station = new Station(name);
+        ReflectionTestUtils.setField(station, "id", id);
+        return station;
     }
 
     /**
@@ -48,15 +81,15 @@ class PathFinderTest {
      * 남부터미널역 --- *3호선* --- 양재역  --- *수인분당선* ---  정자역
      */
     @DisplayName("시작역과 도착역을 기준으로 최단경로를 반환한다.")
-    @Test
-    void find() {
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void find(final Supplier<Path> path) {
         삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
         삼호선.addSection(new Section(삼호선, 남부터미널역, 양재역, 100));
         이호선.addSection(new Section(이호선, 교대역, 강남역, 4));
         신분당선.addSection(new Section(신분당선, 강남역, 양재역, 5));
         수인분당선.addSection(new Section(수인분당선, 양재역, 정자역, 9));
-        PathFinder pathFinder = new PathFinder(new DijkstraShortestPathImpl());
-        pathFinder.init(List.of(삼호선, 이호선, 신분당선, 수인분당선));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선, 이호선, 신분당선, 수인분당선);
         Double expected = 19.0;
 
         PathDto graphPath = pathFinder.find(남부터미널역, 정자역);
@@ -66,6 +99,104 @@ class PathFinderTest {
         );
     }
 
+    /**
+     * 교대역   --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역 --- *3호선* --- 양재역  --- *수인분당선* ---  정자역 --- *수인분당선* --- 남부터미널역
+     */
+    @DisplayName("구간 변경 이벤트를 받으면 노선을 다시 읽지 않고 최단경로에 반영한다.")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void update(final Supplier<Path> path) {
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
+        삼호선.addSection(new Section(삼호선, 남부터미널역, 양재역, 100));
+        이호선.addSection(new Section(이호선, 교대역, 강남역, 4));
+        신분당선.addSection(new Section(신분당선, 강남역, 양재역, 5));
+        수인분당선.addSection(new Section(수인분당선, 양재역, 정자역, 9));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선, 이호선, 신분당선, 수인분당선);
+        수인분당선.pullEvents();
+
+        수인분당선.addSection(new Section(수인분당선, 정자역, 남부터미널역, 2));
+        수인분당선.pullEvents().forEach(pathFinder::update);
+
+        PathDto graphPath = pathFinder.find(남부터미널역, 정자역);
+        assertAll(
+                () -> assertThat(graphPath.getWeight()).isEqualTo(2.0),
+                () -> assertThat(graphPath.getNodes()).containsExactly(남부터미널역, 정자역)
+        );
+    }
+
+    /**
+     * 교대역   --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역 --- *3호선* --- 양재역          정자역
+     */
+    @DisplayName("출발역 하나에서 여러 도착역까지의 최단 거리를 반환하고, 갈 수 없는 역은 무한대로 반환한다.")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void distances(final Supplier<Path> path) {
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
+        삼호선.addSection(new Section(삼호선, 남부터미널역, 양재역, 100));
+        이호선.addSection(new Section(이호선, 교대역, 강남역, 4));
+        신분당선.addSection(new Section(신분당선, 강남역, 양재역, 5));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선, 이호선, 신분당선);
+
+        double[] distances = pathFinder.snapshot().distances(남부터미널역, List.of(양재역, 교대역, 남부터미널역, 정자역));
+
+        assertThat(distances).containsExactly(10.0, 1.0, 0.0, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * 교대역   --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역 --- *3호선* --- 양재역
+     */
+    @DisplayName("출발역에서 주어진 거리 이하로 닿는 역을 가까운 순서로 반환한다.")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void reachable(final Supplier<Path> path) {
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
+        삼호선.addSection(new Section(삼호선, 남부터미널역, 양재역, 100));
+        이호선.addSection(new Section(이호선, 교대역, 강남역, 4));
+        신분당선.addSection(new Section(신분당선, 강남역, 양재역, 5));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선, 이호선, 신분당선);
+
+        List<ReachDto> reached = pathFinder.snapshot().reachable(남부터미널역, 5);
+
+        assertAll(
+                () -> assertThat(reached).extracting(ReachDto::getStation).containsExactly(남부터미널역, 교대역, 강남역),
+                () -> assertThat(reached).extracting(ReachDto::getDistance).containsExactly(0.0, 1.0, 5.0)
+        );
+    }
+
+    @DisplayName("같은 출발역을 여러 번 조회하면 보관한 최단 경로 트리로 같은 결과를 반환한다.")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void findRepeatedly(final Supplier<Path> path) {
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
+        삼호선.addSection(new Section(삼호선, 남부터미널역, 양재역, 100));
+        이호선.addSection(new Section(이호선, 교대역, 강남역, 4));
+        신분당선.addSection(new Section(신분당선, 강남역, 양재역, 5));
+        수인분당선.addSection(new Section(수인분당선, 양재역, 정자역, 9));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선, 이호선, 신분당선, 수인분당선);
+
+        for (int i = 0; i < 5; i++) {
+            PathDto graphPath = pathFinder.find(남부터미널역, 정자역);
+            PathDto reversed = pathFinder.find(정자역, 남부터미널역);
+            assertAll(
+                    () -> assertThat(graphPath.getWeight()).isEqualTo(19.0),
+                    () -> assertThat(graphPath.getNodes()).containsExactly(남부터미널역, 교대역, 강남역, 양재역, 정자역),
+                    () -> assertThat(reversed.getNodes()).containsExactly(정자역, 양재역, 강남역, 교대역, 남부터미널역)
+            );
+        }
+    }
+
     /**
      * 교대역
      * |
@@ -74,11 +205,11 @@ class PathFinderTest {
      * 남부터미널역      정자역
      */
     @DisplayName("연결되지 않은 역을 기준으로 경로를 찾을 경우 에러 처리한다.")
-    @Test
-    void findNotLinked() {
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void findNotLinked(final Supplier<Path> path) {
         삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
-        PathFinder pathFinder = new PathFinder(new DijkstraShortestPathImpl());
-        pathFinder.init(List.of(삼호선));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선);
 
         assertThatThrownBy(() -> pathFinder.find(남부터미널역, 정자역)).isInstanceOf(PathFindException.class);
     }
@@ -88,11 +219,11 @@ class PathFinderTest {
      * 남부터미널역 --- *3호선* --- 교대역
      */
     @DisplayName("출발역과 도착역이 같을 경우 에러 처리한다.")
-    @Test
-    void findSourceAndTargetIsEqual() {
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void findSourceAndTargetIsEqual(final Supplier<Path> path) {
         삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
-        PathFinder pathFinder = new PathFinder(new DijkstraShortestPathImpl());
-        pathFinder.init(List.of(삼호선));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선);
 
         assertThatThrownBy(() -> pathFinder.find(교대역, 교대역)).isInstanceOf(PathFindException.class);
     }
@@ -101,11 +232,11 @@ class PathFinderTest {
      * 남부터미널역 --- *3호선* --- 교대역
      */
     @DisplayName("존재하지 않는 출발역으로 경로를 찾는 경우 에러 처리한다.")
-    @Test
-    void findSourceIsNotExists() {
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void findSourceIsNotExists(final Supplier<Path> path) {
         삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
-        PathFinder pathFinder = new PathFinder(new DijkstraShortestPathImpl());
-        pathFinder.init(List.of(삼호선));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선);
 
         assertThatThrownBy(() -> pathFinder.find(정자역, 교대역)).isInstanceOf(PathFindException.class);
     }
@@ -115,12 +246,30 @@ class PathFinderTest {
      * 남부터미널역 --- *3호선* --- 교대역
      */
     @DisplayName("존재하지 않는 도착역으로 경로를 찾는 경우 에러 처리한다.")
-    @Test
-    void findTargetIsNotExists() {
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void findTargetIsNotExists(final Supplier<Path> path) {
         삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
-        PathFinder pathFinder = new PathFinder(new DijkstraShortestPathImpl());
-        pathFinder.init(List.of(삼호선));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선);
 
         assertThatThrownBy(() -> pathFinder.find(교대역, 정자역)).isInstanceOf(PathFindException.class);
     }
+
+    /**
+     * 남부터미널역 --- *3호선* --- 교대역      정자역
+     */
+    @DisplayName("그래프 스냅샷에서 역을 id 로 찾는다. 그래프에 없는 역은 찾지 못한다.")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paths")
+    void findStationInSnapshot(final Supplier<Path> path) {
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 1));
+        PathFinder pathFinder = 경로_탐색기(path, 삼호선);
+
+        GraphSnapshot snapshot = pathFinder.snapshot();
+        assertAll(
+                () -> assertThat(snapshot.station(교대역.getId())).containsSame(교대역),
+                () -> assertThat(snapshot.station(남부터미널역.getId()).map(Station::getName)).contains("남부터미널역"),
+                () -> assertThat(snapshot.station(정자역.getId())).isEmpty()
+        );
+    }
 }
@@ -19,6 +19,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 @DisplayName("구간 목록 관련 기능")
 class SectionsTest {
+    private static final int GAP = Section.POSITION_GAP;
 
     private Station 강남역;
     private Station 역삼역;
@@ -67,6 +68,97 @@ class SectionsTest {
             );
         }
 
+        @DisplayName("구간을 사이나 종점에 추가해도 구간 목록은 상행 종점부터 역 순서대로 position 을 가지고, 있던 구간의 position 은 그대로이다.")
+        @Test
+        void addKeepsPosition() {
+            Sections sections = createSectionsBy(line, 역삼역, 정자역);
+            Section 사이_구간 = new Section(line, 역삼역, 선릉역, 2);
+            Section 상행_종점_구간 = new Section(line, 강남역, 역삼역, 3);
+
+            sections.add(사이_구간);
+            sections.add(상행_종점_구간);
+
+            List<Section> sectionList = sections.getSections();
+            assertAll(
+                    () -> assertThat(sectionList.get(0)).isEqualTo(상행_종점_구간),
+                    () -> assertThat(sectionList.get(1)).isEqualTo(사이_구간),
+                    () -> assertThat(sectionList).extracting(Section::getPosition).containsExactly(-2 * GAP, -GAP, 0)
+            );
+        }
+
+        @DisplayName("노선 가운데에 구간을 추가하면 새 구간의 position 만 앞뒤 구간 사이로 정하고 나머지 구간의 position 은 바꾸지 않는다.")
+        @Test
+        void addBetweenKeepsOtherPositions() {
+            Station 교대역 = new Station("교대역");
+            Sections sections = createSectionsBy(line, 강남역, 역삼역, 선릉역, 정자역);
+            Section 사이_구간 = new Section(line, 역삼역, 교대역, 2);
+
+            sections.add(사이_구간);
+
+            assertAll(
+                    () -> assertThat(sections.getStations()).containsExactly(강남역, 역삼역, 교대역, 선릉역, 정자역),
+                    () -> assertThat(sections.getSections()).extracting(Section::getPosition)
+                            .containsExactly(0, GAP / 2, GAP, 2 * GAP)
+            );
+        }
+
+        @DisplayName("앞뒤 구간 사이에 빈 position 이 없을 때만 뒤따르는 구간을 POSITION_GAP 만큼 민다.")
+        @Test
+        void addBetweenWithoutGap() {
+            Sections sections = createSectionsBy(line, 강남역, 역삼역, 정자역);
+            Section 앞_구간 = sections.getSections().get(0);
+            Section 뒤_구간 = sections.getSections().get(1);
+            뒤_구간.changePosition(1);
+
+            sections.add(new Section(line, 역삼역, 선릉역, 2));
+
+            assertAll(
+                    () -> assertThat(sections.getStations()).containsExactly(강남역, 역삼역, 선릉역, 정자역),
+                    () -> assertThat(앞_구간.getPosition()).isZero(),
+                    () -> assertThat(뒤_구간.getPosition()).isEqualTo(1 + GAP),
+                    () -> assertThat(sections.getSections().get(1).getPosition()).isBetween(1, GAP)
+            );
+        }
+
+        @DisplayName("여러 구간을 순서대로 한 번에 추가하고, 새 구간에만 역 순서대로 position 을 매긴다.")
+        @Test
+        void addAll() {
+            Sections sections = createSectionsBy(line, 역삼역, 선릉역);
+
+            sections.addAll(List.of(
+                    new Section(line, 강남역, 역삼역, 10),
+                    new Section(line, 역삼역, 정자역, 2)
+            ));
+
+            assertAll(
+                    () -> assertThat(sections.getStations()).containsExactly(강남역, 역삼역, 정자역, 선릉역),
+                    () -> assertThat(sections.getSections()).extracting(Section::getPosition).containsExactly(-2 * GAP, -GAP, 0)
+            );
+        }
+
+        @DisplayName("양 끝을 늘리거나 양 끝 구간을 나누는 구간을 한 번에 추가해도 역 순서대로 놓는다.")
+        @Test
+        void addAllAroundLineEnds() {
+            Station 교대역 = new Station("교대역");
+            Station 판교역 = new Station("판교역");
+            Sections sections = createSectionsBy(line, 역삼역, 선릉역);
+
+            sections.addAll(List.of(
+                    new Section(line, 강남역, 역삼역, 3),
+                    new Section(line, 선릉역, 정자역, 4),
+                    new Section(line, 강남역, 교대역, 1),
+                    new Section(line, 판교역, 정자역, 1)
+            ));
+
+            assertAll(
+                    () -> assertThat(sections.getStations()).containsExactly(강남역, 교대역, 역삼역, 선릉역, 판교역, 정자역),
+                    () -> assertThat(sections.getSections()).extracting(Section::getPosition)
+                            .containsExactly(-2 * GAP, -GAP, 0, GAP, 2 * GAP),
+                    () -> assertThat(sections.getSections()).extracting(section -> section.getDistance().value())
+                            .containsExactly(1, 2, 5, 3, 1)
+            );
+        }
+
         @DisplayName("기존 구간 사이에 신규 구간을 추가시 신규 구간이 역과 역 사이 길이보다 크거나 같으면 에러 처리한다.")
         @ParameterizedTest(name = "Add Section Distance : {0}")
         @ValueSource(ints = {5, 6, 10})
@@ -237,6 +329,20 @@ class SectionsTest {
             assertThat(sections.getStations()).containsExactly(강남역, 역삼역);
         }
 
+        @DisplayName("상행 종점 앞에 추가된 구간이 있어도 상행역을 제거하면 실제 상행 종점 구간을 제거한다.")
+        @Test
+        void removeUpStationAfterExtendingUpStation() {
+            Sections sections = createSectionsBy(line, 역삼역, 선릉역);
+            sections.add(new Section(line, 강남역, 역삼역, 10));
+
+            sections.remove(강남역);
+
+            assertAll(
+                    () -> assertThat(sections.getStations()).containsExactly(역삼역, 선릉역),
+                    () -> assertThat(sections.getLineUpStation()).isEqualTo(역삼역)
+            );
+        }
+
         @DisplayName("구간 목록에 포함되지 않은 역일 경우 예외 처리한다..")
         @Test
         void removeNotIncludeStation() {
@@ -270,6 +376,93 @@ class SectionsTest {
         }
     }
 
+    @DisplayName("구간 변경 이벤트 관련 기능")
+    @Nested
+    class SectionsChangedEventTest {
+        @DisplayName("기존 구간 사이에 구간을 추가하면 줄어든 기존 구간과 신규 구간을 함께 알린다.")
+        @Test
+        void split() {
+            Sections sections = new Sections();
+            Section existingSection = new Section(line, 강남역, 역삼역, 10);
+            Section newSection = new Section(line, 강남역, 선릉역, 5);
+            sections.add(existingSection);
+
+            sections.add(newSection);
+
+            List<SectionsChangedEvent> events = sections.pullEvents();
+            assertAll(
+                    () -> assertThat(events).extracting(SectionsChangedEvent::getType)
+                            .containsExactly(SectionsChangedEvent.Type.CREATED, SectionsChangedEvent.Type.SPLIT),
+                    () -> assertThat(events.get(1).getUpserted()).containsExactly(existingSection, newSection),
+                    () -> assertThat(events.get(1).getRemoved()).isEmpty()
+            );
+        }
+
+        @DisplayName("종점에 구간을 추가하면 신규 구간만 알린다.")
+        @Test
+        void extend() {
+            Sections sections = createSectionsBy(line, 강남역, 역삼역);
+            sections.pullEvents();
+            Section newSection = new Section(line, 정자역, 강남역, 5);
+
+            sections.add(newSection);
+
+            List<SectionsChangedEvent> events = sections.pullEvents();
+            assertAll(
+                    () -> assertThat(events).extracting(SectionsChangedEvent::getType)
+                            .containsExactly(SectionsChangedEvent.Type.EXTENDED),
+                    () -> assertThat(events.get(0).getUpserted()).containsExactly(newSection)
+            );
+        }
+
+        @DisplayName("가운데 역을 제거하면 합쳐진 구간과 제거된 두 구간을 알린다.")
+        @Test
+        void merge() {
+            Sections sections = createSectionsBy(line, 강남역, 선릉역, 역삼역);
+            List<Section> removedSections = List.copyOf(sections.getSections());
+            sections.pullEvents();
+
+            sections.remove(선릉역);
+
+            List<SectionsChangedEvent> events = sections.pullEvents();
+            assertAll(
+                    () -> assertThat(events).extracting(SectionsChangedEvent::getType)
+                            .containsExactly(SectionsChangedEvent.Type.MERGED),
+                    () -> assertThat(events.get(0).getUpserted()).containsExactlyElementsOf(sections.getSections()),
+                    () -> assertThat(events.get(0).getRemoved()).containsExactlyInAnyOrderElementsOf(removedSections)
+            );
+        }
+
+        @DisplayName("여러 변경을 묶으면 나중에 제거된 구간은 upserted 에서 빠지고 removed 에만 남는다.")
+        @Test
+        void combined() {
+            Sections sections = createSectionsBy(line, 강남역, 선릉역);
+            Section firstSection = sections.getSections().get(0);
+            Section newSection = new Section(line, 선릉역, 역삼역, 5);
+            sections.add(newSection);
+            sections.remove(선릉역);
+
+            SectionsChangedEvent event = SectionsChangedEvent.combined(sections.pullEvents());
+
+            assertAll(
+                    () -> assertThat(event.getType()).isEqualTo(SectionsChangedEvent.Type.COMBINED),
+                    () -> assertThat(event.getUpserted()).containsExactlyElementsOf(sections.getSections()),
+                    () -> assertThat(event.getRemoved()).containsExactlyInAnyOrder(firstSection, newSection)
+            );
+        }
+
+        @DisplayName("꺼낸 이벤트는 다시 꺼내지 않는다.")
+        @Test
+        void pullEventsOnce() {
+            Sections sections = createSectionsBy(line, 강남역, 역삼역, 선릉역);
+
+            assertAll(
+                    () -> assertThat(sections.pullEvents()).hasSize(2),
+                    () -> assertThat(sections.pullEvents()).isEmpty()
+            );
+        }
+    }
+
     @DisplayName("노선 조회시 상행 종점역부터 하행 종점역 순으로 역 목록을 조회한다.")
     @Test
     void showStationsOrderByUpStationToDownStation() {
@@ -0,0 +1,159 @@
+package nextstep.subway.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionsChangedEvent;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.utils.GraphSourceFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ALT 최단경로")
+class AltShortestPathImplTest {
+
+    private static final long SEED = 20260102L;
+    private static final int GRID_SIZE = 30;
+    private static final int MAX_DISTANCE = 100;
+    private static final int PAIR_COUNT = 200;
+
+    private Random random;
+    private Station[][] 역;
+    private List<Line> 노선목록;
+    private CsrGraph graph;
+
+    /**
+     * 가로 노선 30개와 세로 노선 30개가 만나는 30 x 30 격자 노선망. 구간 거리는 무작위이다.
+     */
+    @BeforeEach
+    void setUp() {
+        random = new Random(SEED);
+        역 = new Station[GRID_SIZE][GRID_SIZE];
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                역[row][column] = 역(row + "-" + column + "역", (long) row * GRID_SIZE + column + 1);
+            }
+        }
+        노선목록 = new ArrayList<>();
+        for (int i = 0; i < GRID_SIZE; i++) {
+            Line 가로선 = new Line("가로" + i + "호선", "bg-green-500");
+            Line 세로선 = new Line("세로" + i + "호선", "bg-red-500");
+            for (int j = 1; j < GRID_SIZE; j++) {
+                가로선.addSection(new Section(가로선, 역[i][j - 1], 역[i][j], 거리()));
+                세로선.addSection(new Section(세로선, 역[j - 1][i], 역[j][i], 거리()));
+            }
+            가로선.pullEvents();
+            세로선.pullEvents();
+            노선목록.add(가로선);
+            노선목록.add(세로선);
+        }
+        graph = CsrGraph.from(GraphSourceFixture.of(노선목록));
+    }
+
+    @DisplayName("다익스트라와 같은 최단 거리를 찾으면서 확정하는 정점 수는 더 적다.")
+    @Test
+    void settlesFewerNodesThanDijkstra() {
+        AltShortestPathImpl alt = new AltShortestPathImpl();
+        LandmarkGraph landmarkGraph = alt.prepare(graph);
+        CsrShortestPathImpl dijkstra = new CsrShortestPathImpl();
+        SearchSpace space = DijkstraKernel.localSearchSpace();
+
+        long altSettled = 0;
+        long dijkstraSettled = 0;
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            int source = random.nextInt(graph.size());
+            int target = random.nextInt(graph.size());
+            if (source == target) {
+                continue;
+            }
+            PathDto altPath = alt.search(landmarkGraph, source, target);
+            altSettled += space.settledCount();
+            PathDto dijkstraPath = dijkstra.search(graph, source, target);
+            dijkstraSettled += space.settledCount();
+            if (altPath.getWeight() != dijkstraPath.getWeight()) {
+                mismatches.add(source + " -> " + target);
+            }
+        }
+
+        long settledByAlt = altSettled;
+        long settledByDijkstra = dijkstraSettled;
+        assertAll(
+                () -> assertThat(mismatches).isEmpty(),
+                () -> assertThat(settledByAlt).isLessThan(settledByDijkstra / 2)
+        );
+    }
+
+    /**
+     * 가로0호선 가운데 역을 빼고 끝에 새 역을 이으면 역 사이 거리는 줄지 않으므로 랜드마크 하한을 그대로 쓴다.
+     * 이어서 가장 멀리 떨어진 두 역을 잇는 짧은 구간이 생기면 하한이 깨지므로 휴리스틱 없이 찾는다.
+     */
+    @DisplayName("구간이 바뀌면 랜드마크 하한이 성립하는 동안만 쓰고, 어느 경우든 다익스트라와 같은 최단 거리를 찾는다.")
+    @Test
+    void patchUsesLandmarksOnlyWhileBoundsHold() {
+        AltShortestPathImpl alt = new AltShortestPathImpl();
+        LandmarkGraph landmarkGraph = alt.prepare(graph);
+        Line 가로선 = 노선목록.get(0);
+        가로선.removeSection(역[0][GRID_SIZE / 2]);
+        가로선.addSection(new Section(가로선, 역[0][GRID_SIZE - 1], 역("새역", (long) GRID_SIZE * GRID_SIZE + 1), 거리()));
+        LandmarkGraph lengthened = patch(alt, landmarkGraph, 가로선.pullEvents());
+
+        Line 지름길 = new Line("지름길", "bg-blue-500");
+        지름길.addSection(new Section(지름길, 역[0][0], 역[GRID_SIZE - 1][GRID_SIZE - 1], 1));
+        LandmarkGraph shortened = patch(alt, lengthened, 지름길.pullEvents());
+
+        assertAll(
+                () -> assertThat(lengthened.isAdmissible()).isTrue(),
+                () -> assertThat(shortened.isAdmissible()).isFalse(),
+                () -> assertThat(mismatchesWithDijkstra(alt, lengthened)).isEmpty(),
+                () -> assertThat(mismatchesWithDijkstra(alt, shortened)).isEmpty()
+        );
+    }
+
+    private LandmarkGraph patch(
+            final AltShortestPathImpl alt,
+            final LandmarkGraph landmarkGraph,
+            final List<SectionsChangedEvent> events
+    ) {
+        LandmarkGraph patched = landmarkGraph;
+        for (SectionsChangedEvent event : events) {
+            patched = alt.patch(patched, patched.graph().apply(event));
+        }
+        return patched;
+    }
+
+    private List<String> mismatchesWithDijkstra(final AltShortestPathImpl alt, final LandmarkGraph landmarkGraph) {
+        CsrGraph changed = landmarkGraph.graph();
+        CsrShortestPathImpl dijkstra = new CsrShortestPathImpl();
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            int source = random.nextInt(changed.size());
+            int target = random.nextInt(changed.size());
+            if (source == target) {
+                continue;
+            }
+            if (alt.search(landmarkGraph, source, target).getWeight() != dijkstra.search(changed, source, target).getWeight()) {
+                mismatches.add(source + " -> " + target);
+            }
+        }
+        return mismatches;
+    }
+
+    private Station 역(final String name, final long id) {
+        Station station = new Station(name);
+        ReflectionTestUtils.setField(station, "id", id);
+        return station;
+    }
+
+    private int 거리() {
+        return 1 + random.nextInt(MAX_DISTANCE);
+    }
+}
@@ -0,0 +1,41 @@
+package nextstep.subway.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import nextstep.subway.applicaion.GraphBuild;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@DisplayName("캐시 설정")
+class CacheConfigTest {
+
+    @DisplayName("graph 캐시는 만료되지 않아 조회 요청이 그래프를 주기적으로 다시 만들지 않는다.")
+    @Test
+    void graphCacheNeverExpires() {
+        CaffeineCacheManager cacheManager = new CacheConfig().cacheManager();
+
+        Policy<Object, Object> graphPolicy = ((CaffeineCache) cacheManager.getCache(GraphBuild.CACHE_NAME))
+                .getNativeCache()
+                .policy();
+        assertAll(
+                () -> assertThat(graphPolicy.expireAfterWrite()).isEmpty(),
+                () -> assertThat(graphPolicy.expireAfterAccess()).isEmpty(),
+                () -> assertThat(graphPolicy.eviction().orElseThrow().getMaximum()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("등록하지 않은 이름으로는 설정되지 않은 캐시를 만들지 않는다.")
+    @Test
+    void noUndeclaredCache() {
+        CaffeineCacheManager cacheManager = new CacheConfig().cacheManager();
+
+        assertAll(
+                () -> assertThat(cacheManager.getCacheNames()).containsExactly(GraphBuild.CACHE_NAME),
+                () -> assertThat(cacheManager.getCache("line")).isNull()
+        );
+    }
+}
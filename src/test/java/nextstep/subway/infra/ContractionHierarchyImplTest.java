@@ -0,0 +1,153 @@
+package nextstep.subway.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.utils.GraphSourceFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("축약 계층 최단경로")
+class ContractionHierarchyImplTest {
+
+    private static final long SEED = 20260101L;
+    private static final int STATION_COUNT = 600;
+    private static final int LINE_COUNT = 50;
+    private static final int MAX_LINE_LENGTH = 50;
+    private static final int MAX_DISTANCE = 10_000;
+    private static final int PAIR_COUNT = 500;
+    private static final int EDIT_COUNT = 20;
+    private static final String NO_PATH = "경로 없음";
+
+    private Random random;
+    private List<Station> 역목록;
+    private List<Line> 노선목록;
+
+    /**
+     * 역 600개 위에 역 순서를 섞은 노선 50개를 깔아, 축약 중 증인 탐색이 WITNESS_SETTLE_LIMIT 에 걸릴 만큼 촘촘한 망을 만든다.
+     */
+    @BeforeEach
+    void setUp() {
+        random = new Random(SEED);
+        역목록 = new ArrayList<>();
+        for (int i = 0; i < STATION_COUNT; i++) {
+            Station station = new Station(i + "번역");
+            ReflectionTestUtils.setField(station, "id", (long) i + 1);
+            역목록.add(station);
+        }
+        노선목록 = new ArrayList<>();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            Line line = new Line(i + "호선", "bg-green-500");
+            List<Station> shuffled = new ArrayList<>(역목록);
+            Collections.shuffle(shuffled, random);
+            int length = 2 + random.nextInt(MAX_LINE_LENGTH - 1);
+            for (int j = 1; j < length; j++) {
+                line.addSection(new Section(line, shuffled.get(j - 1), shuffled.get(j), 거리()));
+            }
+            line.pullEvents();
+            노선목록.add(line);
+        }
+    }
+
+    @DisplayName("무작위 노선망에서 지름길을 펼친 경로가 다익스트라의 거리, 경로와 같다.")
+    @Test
+    void findOnRandomNetwork() {
+        Path hierarchy = new ContractionHierarchyImpl();
+        hierarchy.init(GraphSourceFixture.of(노선목록));
+
+        assertSameAsDijkstra(hierarchy);
+    }
+
+    @DisplayName("무작위 노선망을 편집하고 다시 축약하기 전에는 바뀐 그래프에서 찾은 경로가 다익스트라의 거리, 경로와 같다.")
+    @Test
+    void findOnRandomNetworkBeforeRebuild() {
+        Path hierarchy = new ContractionHierarchyImpl("", task -> {
+        });
+        hierarchy.init(GraphSourceFixture.of(노선목록));
+
+        편집(hierarchy);
+
+        assertSameAsDijkstra(hierarchy);
+    }
+
+    /**
+     * 첫 편집에서 예약된 축약은 편집이 모두 끝난 뒤 실행되므로, 축약하는 동안 들어온 나머지 편집을 다시 적용하고 한 번 더 축약한다.
+     */
+    @DisplayName("무작위 노선망을 편집하고 다시 축약한 뒤에도 지름길을 펼친 경로가 다익스트라의 거리, 경로와 같다.")
+    @Test
+    void findOnRandomNetworkAfterRebuild() {
+        List<Runnable> rebuilds = new ArrayList<>();
+        Path hierarchy = new ContractionHierarchyImpl("", rebuilds::add);
+        hierarchy.init(GraphSourceFixture.of(노선목록));
+
+        편집(hierarchy);
+        while (!rebuilds.isEmpty()) {
+            rebuilds.remove(0).run();
+        }
+
+        assertSameAsDijkstra(hierarchy);
+    }
+
+    private void 편집(final Path hierarchy) {
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            Line line = 노선목록.get(random.nextInt(LINE_COUNT));
+            편집(line);
+            line.pullEvents().forEach(hierarchy::update);
+        }
+    }
+
+    /**
+     * 노선 끝에 노선에 없는 역을 잇거나, 역이 셋 이상이면 가운데 역을 뺀다.
+     */
+    private void 편집(final Line line) {
+        List<Station> stations = line.getStations();
+        if (stations.size() > 2 && random.nextBoolean()) {
+            line.removeSection(stations.get(1 + random.nextInt(stations.size() - 2)));
+            return;
+        }
+        Station next = 역목록.get(random.nextInt(STATION_COUNT));
+        while (stations.contains(next)) {
+            next = 역목록.get(random.nextInt(STATION_COUNT));
+        }
+        line.addSection(new Section(line, stations.get(stations.size() - 1), next, 거리()));
+    }
+
+    private void assertSameAsDijkstra(final Path hierarchy) {
+        Path dijkstra = new CsrShortestPathImpl();
+        dijkstra.init(GraphSourceFixture.of(노선목록));
+
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            Station source = 역목록.get(random.nextInt(STATION_COUNT));
+            Station target = 역목록.get(random.nextInt(STATION_COUNT));
+            if (source.equals(target)) {
+                continue;
+            }
+            assertThat(결과(hierarchy, source, target))
+                    .as("%s -> %s", source.getName(), target.getName())
+                    .isEqualTo(결과(dijkstra, source, target));
+        }
+    }
+
+    private String 결과(final Path path, final Station source, final Station target) {
+        try {
+            PathDto result = path.find(source, target);
+            return result.getWeight() + " " + result.getNodes();
+        } catch (IllegalArgumentException e) {
+            return NO_PATH;
+        }
+    }
+
+    private int 거리() {
+        return 1 + random.nextInt(MAX_DISTANCE);
+    }
+}
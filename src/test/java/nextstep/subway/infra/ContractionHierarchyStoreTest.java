@@ -0,0 +1,112 @@
+package nextstep.subway.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.utils.GraphSourceFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("축약 계층 저장소")
+class ContractionHierarchyStoreTest {
+
+    private static final int ARC_BYTES = Integer.BYTES * 4;
+
+    @TempDir
+    Path directory;
+
+    private Line 이호선;
+    private Line 신분당선;
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = 역(1L, "교대역");
+        강남역 = 역(2L, "강남역");
+        양재역 = 역(3L, "양재역");
+        이호선 = new Line("2호선", "bg-green-500");
+        신분당선 = new Line("신분당선", "bg-red-500");
+        이호선.addSection(new Section(이호선, 교대역, 강남역, 4));
+        신분당선.addSection(new Section(신분당선, 강남역, 양재역, 5));
+    }
+
+    @DisplayName("구간이 그대로이면 노선 조회 순서가 달라도 저장한 축약 계층을 다시 읽는다.")
+    @Test
+    void load() {
+        ContractionHierarchyStore store = new ContractionHierarchyStore(directory.resolve("ch.bin").toString());
+        ContractionHierarchy saved = ContractionHierarchyBuilder.contract(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선)));
+        store.save(saved);
+
+        CsrGraph graph = CsrGraph.from(GraphSourceFixture.of(신분당선, 이호선));
+
+        assertThat(store.load(graph)).hasValueSatisfying(hierarchy -> {
+            assertThat(hierarchy.graph()).isSameAs(graph);
+            assertThat(hierarchy.arcCount()).isEqualTo(saved.arcCount());
+        });
+    }
+
+    @DisplayName("구간이 바뀌었으면 저장한 축약 계층을 쓰지 않는다.")
+    @Test
+    void loadChangedSections() {
+        ContractionHierarchyStore store = new ContractionHierarchyStore(directory.resolve("ch.bin").toString());
+        store.save(ContractionHierarchyBuilder.contract(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선))));
+
+        신분당선.addSection(new Section(신분당선, 양재역, 역(4L, "양재시민의숲역"), 3));
+
+        assertThat(store.load(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선)))).isEmpty();
+    }
+
+    @DisplayName("잘린 파일은 예외 없이 읽지 않고 다시 계산하게 한다.")
+    @Test
+    void loadTruncatedFile() throws IOException {
+        Path file = directory.resolve("ch.bin");
+        ContractionHierarchyStore store = new ContractionHierarchyStore(file.toString());
+        store.save(ContractionHierarchyBuilder.contract(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선))));
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - ARC_BYTES / 2));
+
+        assertThat(store.load(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선)))).isEmpty();
+    }
+
+    @DisplayName("정점 번호가 범위를 벗어난 파일은 예외 없이 읽지 않고 다시 계산하게 한다.")
+    @Test
+    void loadCorruptFile() throws IOException {
+        Path file = directory.resolve("ch.bin");
+        ContractionHierarchyStore store = new ContractionHierarchyStore(file.toString());
+        store.save(ContractionHierarchyBuilder.contract(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선))));
+
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - ARC_BYTES, Integer.MAX_VALUE);
+        Files.write(file, bytes);
+
+        assertThat(store.load(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선)))).isEmpty();
+    }
+
+    @DisplayName("저장 경로가 없으면 저장하지도 읽지도 않는다.")
+    @Test
+    void disabled() {
+        ContractionHierarchyStore store = new ContractionHierarchyStore("");
+        store.save(ContractionHierarchyBuilder.contract(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선))));
+
+        assertThat(store.load(CsrGraph.from(GraphSourceFixture.of(이호선, 신분당선)))).isEmpty();
+    }
+
+    private Station 역(final long id, final String name) {
+        Station station = new Station(name);
+        ReflectionTestUtils.setField(station, "id", id);
+        return station;
+    }
+}
@@ -0,0 +1,186 @@
+package nextstep.subway.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.utils.GraphSourceFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("다익스트라 경로 그래프 동시성")
+class DijkstraShortestPathImplTest {
+    private static final Logger logger = LoggerFactory.getLogger(DijkstraShortestPathImplTest.class);
+
+    private static final int STATION_COUNT = 50;
+    private static final int SECTION_DISTANCE = 10;
+    private static final int SHORTCUT_DISTANCE = 5;
+    private static final int READER_COUNT = 4;
+    private static final int REBUILD_COUNT = 200;
+    private static final int READS_PER_READER = 10_000;
+    private static final double MIN_THROUGHPUT_RATIO = 0.1;
+
+    private Line 본선;
+    private Line 급행선;
+    private List<Station> 역목록;
+
+    /**
+     * 0번역 --- *본선* --- 1번역 --- ... --- 49번역
+     * |                                      |
+     * ---------------- *급행선* ---------------
+     */
+    @BeforeEach
+    void setUp() {
+        본선 = new Line("본선", "bg-green-500");
+        급행선 = new Line("급행선", "bg-red-500");
+        역목록 = new ArrayList<>();
+        for (int i = 0; i < STATION_COUNT; i++) {
+            Station station = new Station(i + "번역");
+            ReflectionTestUtils.setField(station, "id", (long) i + 1);
+            역목록.add(station);
+        }
+        for (int i = 1; i < STATION_COUNT; i++) {
+            본선.addSection(new Section(본선, 역목록.get(i - 1), 역목록.get(i), SECTION_DISTANCE));
+        }
+        급행선.addSection(new Section(급행선, 처음역(), 마지막역(), SHORTCUT_DISTANCE));
+    }
+
+    @DisplayName("노선이 편집되는 동안에도 조회는 실패하지 않고 완성된 그래프만 본다.")
+    @Test
+    void findWhileLinesAreEdited() throws InterruptedException {
+        DijkstraShortestPathImpl path = new DijkstraShortestPathImpl();
+        path.init(GraphSourceFixture.of(본선, 급행선));
+
+        ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder reads = new LongAdder();
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < READER_COUNT; i++) {
+            executor.execute(() -> {
+                await(start);
+                while (running.get()) {
+                    try {
+                        verify(path.find(처음역(), 마지막역()), failures);
+                    } catch (RuntimeException e) {
+                        failures.add(e.toString());
+                    }
+                    reads.increment();
+                }
+            });
+        }
+
+        start.countDown();
+        for (int i = 0; i < REBUILD_COUNT || reads.sum() < REBUILD_COUNT; i++) {
+            path.init(i % 2 == 0 ? GraphSourceFixture.of(본선) : GraphSourceFixture.of(본선, 급행선));
+        }
+        running.set(false);
+        executor.shutdown();
+        boolean terminated = executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(terminated).isTrue(),
+                () -> assertThat(failures).isEmpty()
+        );
+    }
+
+    /**
+     * 걸린 시간은 환경마다 흔들리므로 같은 횟수의 조회를 편집 없이 한 번, 편집과 함께 한 번 수행해 처리량의 비율만 느슨하게 검증한다.
+     * 조회가 그래프 교체를 기다린다면 편집 중 처리량이 크게 떨어진다.
+     */
+    @DisplayName("노선이 편집되는 동안에도 조회 처리량이 크게 떨어지지 않는다.")
+    @Test
+    void readThroughputWhileLinesAreEdited() throws InterruptedException {
+        DijkstraShortestPathImpl path = new DijkstraShortestPathImpl();
+        path.init(GraphSourceFixture.of(본선, 급행선));
+        readsPerSecond(path, false);
+
+        double alone = readsPerSecond(path, false);
+        double edited = readsPerSecond(path, true);
+
+        logger.info("조회 {} 회 처리량: 편집 없음 {} 회/초, 편집 중 {} 회/초",
+                READER_COUNT * READS_PER_READER, Math.round(alone), Math.round(edited));
+        assertThat(edited).isGreaterThan(alone * MIN_THROUGHPUT_RATIO);
+    }
+
+    /**
+     * 조회 스레드마다 정해진 횟수를 마칠 때까지의 처리량을 잰다. edited 이면 그동안 다른 스레드가 그래프를 계속 교체한다.
+     */
+    private double readsPerSecond(final DijkstraShortestPathImpl path, final boolean edited) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(READER_COUNT);
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < READER_COUNT; i++) {
+            executor.execute(() -> {
+                await(start);
+                try {
+                    for (int read = 0; read < READS_PER_READER; read++) {
+                        path.find(처음역(), 마지막역());
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        if (edited) {
+            executor.execute(() -> {
+                await(start);
+                for (int i = 0; running.get(); i++) {
+                    path.init(i % 2 == 0 ? GraphSourceFixture.of(본선) : GraphSourceFixture.of(본선, 급행선));
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        return READER_COUNT * READS_PER_READER / (elapsed / 1_000_000_000.0);
+    }
+
+    private void verify(final PathDto result, final ConcurrentLinkedQueue<String> failures) {
+        boolean shortcut = result.getWeight() == SHORTCUT_DISTANCE && result.getNodes().size() == 2;
+        boolean mainLine = result.getWeight() == SECTION_DISTANCE * (STATION_COUNT - 1)
+                && result.getNodes().size() == STATION_COUNT;
+        if (!shortcut && !mainLine) {
+            failures.add(result.getWeight() + " / " + result.getNodes().size());
+        }
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Station 처음역() {
+        return 역목록.get(0);
+    }
+
+    private Station 마지막역() {
+        return 역목록.get(STATION_COUNT - 1);
+    }
+}
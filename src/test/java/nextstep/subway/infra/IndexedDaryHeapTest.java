@@ -0,0 +1,62 @@
+package nextstep.subway.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("정점 색인 d-진 힙")
+class IndexedDaryHeapTest {
+
+    @DisplayName("키가 작은 정점부터 꺼낸다.")
+    @Test
+    void poll() {
+        IndexedDaryHeap heap = new IndexedDaryHeap();
+        heap.ensureCapacity(10);
+        int[] keys = {7, 3, 9, 1, 8, 2, 6, 0, 5, 4};
+        for (int vertex = 0; vertex < keys.length; vertex++) {
+            heap.insertOrDecrease(vertex, keys[vertex]);
+        }
+
+        assertThat(pollAll(heap)).containsExactly(7, 3, 5, 1, 9, 8, 6, 0, 4, 2);
+    }
+
+    @DisplayName("이미 들어있는 정점의 키를 줄이면 위치를 다시 잡고, 큰 키는 무시한다.")
+    @Test
+    void insertOrDecrease() {
+        IndexedDaryHeap heap = new IndexedDaryHeap();
+        heap.ensureCapacity(3);
+        heap.insertOrDecrease(0, 10);
+        heap.insertOrDecrease(1, 20);
+        heap.insertOrDecrease(2, 30);
+
+        heap.insertOrDecrease(2, 5);
+        heap.insertOrDecrease(0, 50);
+
+        assertThat(pollAll(heap)).containsExactly(2, 0, 1);
+    }
+
+    @DisplayName("비운 뒤에는 남아있던 정점을 다시 넣을 수 있다.")
+    @Test
+    void clear() {
+        IndexedDaryHeap heap = new IndexedDaryHeap();
+        heap.ensureCapacity(2);
+        heap.insertOrDecrease(0, 1);
+        heap.insertOrDecrease(1, 2);
+
+        heap.clear();
+        heap.insertOrDecrease(1, 3);
+
+        assertThat(pollAll(heap)).containsExactly(1);
+    }
+
+    private List<Integer> pollAll(final IndexedDaryHeap heap) {
+        List<Integer> vertices = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            vertices.add(heap.poll());
+        }
+        return vertices;
+    }
+}
@@ -0,0 +1,151 @@
+package nextstep.subway.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("최단 경로 트리 캐시")
+class ShortestPathTreeCacheTest {
+
+    private static final long TREE_BYTES = 40;
+    private static final int CALLER_COUNT = 8;
+
+    private AtomicInteger buildCount;
+    private Function<String, String> builder;
+
+    @BeforeEach
+    void setUp() {
+        buildCount = new AtomicInteger();
+        builder = source -> {
+            buildCount.incrementAndGet();
+            return source + " 트리";
+        };
+    }
+
+    @DisplayName("자주 조회된 출발역만 트리를 만들고, 만든 트리는 다시 만들지 않는다.")
+    @Test
+    void buildOnlyHotSource() {
+        ShortestPathTreeCache<String, String> cache = cache();
+
+        assertAll(
+                () -> assertThat(cache.get("강남역", builder)).isEmpty(),
+                () -> assertThat(cache.get("강남역", builder)).isEmpty(),
+                () -> assertThat(cache.get("강남역", builder)).contains("강남역 트리"),
+                () -> assertThat(cache.get("강남역", builder)).contains("강남역 트리"),
+                () -> assertThat(buildCount.get()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("같은 출발역을 동시에 조회해도 트리는 한 번만 만들고 모두 같은 트리를 받는다.")
+    @Test
+    void buildOnceConcurrently() throws Exception {
+        ShortestPathTreeCache<String, String> cache = cache();
+        cache.get("강남역", builder);
+        cache.get("강남역", builder);
+        CountDownLatch arrived = new CountDownLatch(CALLER_COUNT);
+        Function<String, String> slowBuilder = source -> {
+            await(arrived);
+            return builder.apply(source);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLER_COUNT);
+        List<Future<Optional<String>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLER_COUNT; i++) {
+            results.add(executor.submit(() -> {
+                arrived.countDown();
+                return cache.get("강남역", slowBuilder);
+            }));
+        }
+        List<Optional<String>> trees = new ArrayList<>();
+        for (Future<Optional<String>> result : results) {
+            trees.add(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertAll(
+                () -> assertThat(buildCount.get()).isEqualTo(1),
+                () -> assertThat(trees).containsOnly(Optional.of("강남역 트리"))
+        );
+    }
+
+    @DisplayName("메모리 한도를 넘으면 가장 오래 쓰이지 않은 트리부터 버린다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        ShortestPathTreeCache<String, String> cache = cache();
+        hot(cache, "강남역");
+        hot(cache, "교대역");
+        cache.peek("강남역");
+
+        hot(cache, "양재역");
+
+        assertAll(
+                () -> assertThat(cache.peek("강남역")).isPresent(),
+                () -> assertThat(cache.peek("교대역")).isEmpty(),
+                () -> assertThat(cache.peek("양재역")).isPresent()
+        );
+    }
+
+    @DisplayName("트리를 만드는 조회 횟수를 정할 수 있고, DISABLED 이면 몇 번을 조회해도 트리를 만들지 않는다.")
+    @Test
+    void hotSourceThreshold() {
+        ShortestPathTreeCache<String, String> eager = new ShortestPathTreeCache<>(100, 1, tree -> TREE_BYTES);
+        ShortestPathTreeCache<String, String> disabled
+                = new ShortestPathTreeCache<>(100, ShortestPathTreeCache.DISABLED, tree -> TREE_BYTES);
+
+        hot(disabled, "강남역");
+
+        assertAll(
+                () -> assertThat(eager.get("강남역", builder)).contains("강남역 트리"),
+                () -> assertThat(disabled.get("강남역", builder)).isEmpty(),
+                () -> assertThat(buildCount.get()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("조회 횟수는 최근에 조회된 출발역만 세므로, 다른 출발역이 많이 조회되면 오래된 출발역의 횟수는 처음부터 다시 센다.")
+    @Test
+    void forgetLeastRecentlyCountedSource() {
+        ShortestPathTreeCache<String, String> cache = cache();
+        cache.get("강남역", builder);
+        cache.get("강남역", builder);
+
+        for (int i = 0; i < ShortestPathTreeCache.MAX_COUNTED_SOURCES; i++) {
+            cache.get(i + "번역", builder);
+        }
+
+        assertAll(
+                () -> assertThat(cache.get("강남역", builder)).isEmpty(),
+                () -> assertThat(buildCount.get()).isZero()
+        );
+    }
+
+    private ShortestPathTreeCache<String, String> cache() {
+        return new ShortestPathTreeCache<>(100, ShortestPathTreeCache.DEFAULT_HOT_SOURCE_THRESHOLD, tree -> TREE_BYTES);
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void hot(final ShortestPathTreeCache<String, String> cache, final String source) {
+        for (int i = 0; i < ShortestPathTreeCache.DEFAULT_HOT_SOURCE_THRESHOLD; i++) {
+            cache.get(source, builder);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package nextstep.subway.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import nextstep.subway.applicaion.PathFinderService;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.dto.PathDto;
+import nextstep.subway.utils.GraphSourceFixture;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+@DisplayName("경로 그래프 적재 벤치마크")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@Transactional
+public class GraphLoadBenchmarkTest {
+    private static final int LINES = 20;
+    private static final int SECTIONS_PER_LINE = 200;
+
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private PathFinder pathFinder;
+    @Autowired
+    private PathFinderService pathFinderService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCache("graph").clear();
+    }
+
+    @DisplayName("구간 값으로 그래프를 만들면 엔티티를 읽지 않고, 노선 엔티티로 만든 그래프와 같은 경로를 찾는다.")
+    @Test
+    void loadGraphWithoutEntities() {
+        List<Station> stations = saveNetwork();
+        Station source = stations.get(0);
+        Station target = stations.get(stations.size() - 1);
+
+        statistics.clear();
+        pathFinder.load(() -> GraphSourceFixture.of(lineRepository.findAll()));
+        long entityLoads = statistics.getEntityLoadCount();
+        PathDto entityPath = pathFinderService.find(source, target);
+        entityManager.clear();
+
+        statistics.clear();
+        pathFinderService.initGraph();
+        long tupleLoads = statistics.getEntityLoadCount();
+        PathDto tuplePath = pathFinderService.find(source, target);
+
+        assertAll(
+                () -> assertThat(entityLoads).isPositive(),
+                () -> assertThat(tupleLoads).isZero(),
+                () -> assertThat(tuplePath.getWeight()).isEqualTo(entityPath.getWeight())
+        );
+    }
+
+    /**
+     * 노선마다 한 역씩 겹치도록 이어 붙여, 첫 역에서 마지막 역까지 모든 노선을 지나도록 만든다.
+     */
+    private List<Station> saveNetwork() {
+        List<Station> stations = new ArrayList<>();
+        stations.add(stationRepository.save(new Station("역0")));
+        for (int l = 0; l < LINES; l++) {
+            Line line = new Line("노선" + l, "bg-red-500");
+            for (int i = 0; i < SECTIONS_PER_LINE; i++) {
+                Station downStation = stationRepository.save(new Station("역" + stations.size()));
+                line.addSection(new Section(line, stations.get(stations.size() - 1), downStation, 10));
+                stations.add(downStation);
+            }
+            lineRepository.save(line);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return stations;
+    }
+}
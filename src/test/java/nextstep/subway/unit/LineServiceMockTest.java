@@ -3,6 +3,10 @@ package nextstep.subway.unit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -14,14 +18,19 @@ import nextstep.subway.domain.Distance;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
 import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionRepository;
 import nextstep.subway.domain.Station;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @DisplayName("구간 서비스 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -29,11 +38,18 @@ public class LineServiceMockTest {
     @Mock
     private LineRepository lineRepository;
     @Mock
+    private SectionRepository sectionRepository;
+    @Mock
     private StationService stationService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private LineService lineService;
 
+    @Captor
+    private ArgumentCaptor<List<Section>> sectionsCaptor;
+
     private long lineId;
     private long upStationId;
     private long downStationId;
@@ -71,14 +87,16 @@ public class LineServiceMockTest {
         lineService.addSection(lineId, new SectionRequest(upStationId, downStationId, distance));
 
         // then
-        // lineService.findLineById 메서드를 통해 검증
-        List<Section> sections = lineService.findLineById(lineId).getSections();
+        // sectionRepository 에 저장한 구간을 통해 검증
+        verify(sectionRepository).saveAll(sectionsCaptor.capture());
+        List<Section> sections = sectionsCaptor.getValue();
         Section section = sections.get(0);
         assertAll(
                 () -> assertThat(sections).hasSize(1),
                 () -> assertThat(section.getUpStation()).isEqualTo(upStation),
                 () -> assertThat(section.getDownStation()).isEqualTo(downStation),
-                () -> assertThat(section.getDistance()).isEqualTo(new Distance(distance))
+                () -> assertThat(section.getDistance()).isEqualTo(new Distance(distance)),
+                () -> assertThat(section.getPosition()).isZero()
         );
     }
 
@@ -87,26 +105,26 @@ public class LineServiceMockTest {
     void deleteSection() {
         // given
         // stationRepository와 lineRepository를 활용하여 초기값 셋팅
-        when(stationService.findById(upStationId)).thenReturn(upStation);
-        when(stationService.findById(downStationId)).thenReturn(downStation);
+        Section section = new Section(line, upStation, downStation, distance);
+        Section removeSection = new Section(line, downStation, deleteStation, distance);
+        ReflectionTestUtils.setField(removeSection, "position", 1);
         when(stationService.findById(deleteStationId)).thenReturn(deleteStation);
         when(lineRepository.findById(lineId)).thenReturn(Optional.of(line));
-        lineService.addSection(lineId, new SectionRequest(upStationId, downStationId, distance));
-        lineService.addSection(lineId, new SectionRequest(downStationId, deleteStationId, distance));
+        when(sectionRepository.countByLineId(lineId)).thenReturn(2L);
+        when(sectionRepository.findAllByLineIdAndDownStationIn(lineId, List.of(deleteStation)))
+                .thenReturn(List.of(removeSection));
 
         // when
         // lineService.deleteSection 호출
         lineService.deleteSection(lineId, deleteStationId);
 
         // then
-        // lineService.findLineById 메서드를 통해 검증
-        List<Section> sections = lineService.findLineById(lineId).getSections();
-        Section section = sections.get(0);
+        // sectionRepository 에서 제거한 구간만 있고 다른 구간은 옮기지 않는다.
+        verify(sectionRepository).deleteAll(sectionsCaptor.capture());
         assertAll(
-                () -> assertThat(sections).hasSize(1),
-                () -> assertThat(section.getUpStation()).isEqualTo(upStation),
-                () -> assertThat(section.getDownStation()).isEqualTo(downStation),
-                () -> assertThat(section.getDistance()).isEqualTo(new Distance(distance))
+                () -> assertThat(sectionsCaptor.getValue()).containsExactly(removeSection),
+                () -> assertThat(sectionsCaptor.getValue()).doesNotContain(section)
         );
+        verify(sectionRepository, never()).shiftPositions(eq(lineId), anyInt(), anyInt());
     }
 }
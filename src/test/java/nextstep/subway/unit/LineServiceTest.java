@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import nextstep.subway.applicaion.LineService;
 import nextstep.subway.applicaion.dto.SectionRequest;
 import nextstep.subway.domain.Distance;
@@ -31,6 +33,9 @@ public class LineServiceTest {
     @Autowired
     private LineService lineService;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private int distance;
     private Line line;
     private Station upStation;
@@ -60,12 +65,13 @@ public class LineServiceTest {
         lineService.addSection(line.getId(), new SectionRequest(upStation.getId(), downStation.getId(), distance));
 
         // then
-        // line.getSections 메서드를 통해 검증
-        Section section = line.getSections().get(0);
+        // 저장된 노선을 다시 읽어 검증
+        List<Section> sections = findSavedSections();
+        Section section = sections.get(0);
         assertAll(
-                () -> assertThat(line.getSections()).hasSize(1),
-                () -> assertThat(section.getUpStation()).isEqualTo(upStation),
-                () -> assertThat(section.getDownStation()).isEqualTo(downStation),
+                () -> assertThat(sections).hasSize(1),
+                () -> assertThat(section.getUpStation().getId()).isEqualTo(upStation.getId()),
+                () -> assertThat(section.getDownStation().getId()).isEqualTo(downStation.getId()),
                 () -> assertThat(section.getDistance()).isEqualTo(new Distance(distance))
         );
     }
@@ -87,13 +93,42 @@ public class LineServiceTest {
         lineService.deleteSection(line.getId(), deleteStation.getId());
 
         // then
-        // line.getSections 메서드를 통해 검증
-        List<Section> sections = line.getSections();
+        // 저장된 노선을 다시 읽어 검증
+        List<Section> sections = findSavedSections();
         assertAll(
                 () -> assertThat(sections).hasSize(1),
-                () -> assertThat(sections.get(0).getUpStation()).isEqualTo(upStation),
-                () -> assertThat(sections.get(0).getDownStation()).isEqualTo(downStation),
+                () -> assertThat(sections.get(0).getUpStation().getId()).isEqualTo(upStation.getId()),
+                () -> assertThat(sections.get(0).getDownStation().getId()).isEqualTo(downStation.getId()),
                 () -> assertThat(sections.get(0).getDistance()).isEqualTo(new Distance(distance))
         );
     }
+
+    @DisplayName("노선 가운데에 구간을 추가하고 제거해도 구간은 역 순서대로 저장된다.")
+    @Test
+    void addAndDeleteSectionKeepsOrder() {
+        Station 정자역 = stationRepository.save(new Station("정자역"));
+        stationRepository.save(upStation);
+        stationRepository.save(downStation);
+        stationRepository.save(deleteStation);
+        lineRepository.save(line);
+        lineService.addSection(line.getId(), new SectionRequest(upStation.getId(), downStation.getId(), distance));
+        lineService.addSection(line.getId(), new SectionRequest(downStation.getId(), 정자역.getId(), distance));
+
+        lineService.addSection(line.getId(), new SectionRequest(upStation.getId(), deleteStation.getId(), 3));
+        lineService.deleteSection(line.getId(), downStation.getId());
+
+        List<Section> sections = findSavedSections();
+        assertAll(
+                () -> assertThat(sections).extracting(Section::getPosition).containsExactly(-Section.POSITION_GAP, Section.POSITION_GAP),
+                () -> assertThat(lineService.findLineById(line.getId()).getStations())
+                        .extracting(Station::getId)
+                        .containsExactly(upStation.getId(), deleteStation.getId(), 정자역.getId())
+        );
+    }
+
+    private List<Section> findSavedSections() {
+        entityManager.flush();
+        entityManager.clear();
+        return lineService.findLineById(line.getId()).getSections();
+    }
 }
@@ -0,0 +1,149 @@
+package nextstep.subway.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@DisplayName("구간 수정 벤치마크")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@Transactional
+public class SectionMutationBenchmarkTest {
+    private static final Logger logger = LoggerFactory.getLogger(SectionMutationBenchmarkTest.class);
+    private static final int SHORT_LINE = 100;
+    private static final int LONG_LINE = 1_500;
+    private static final int EDITS = 20;
+
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private LineService lineService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 걸린 시간은 환경마다 흔들리므로 참고로 로그에만 남기고, 노선 길이에 비례해 늘 수 있는 비용인
+     * 읽는 엔티티 수, 실행하는 SQL 수, position 이 바뀐 기존 구간 수를 검증한다.
+     */
+    @DisplayName("노선 가운데에 구간을 추가하고 제거할 때 읽는 엔티티, 실행하는 SQL, 옮기는 구간 수는 노선 길이와 무관하다.")
+    @Test
+    void editCostDoesNotGrowWithLineLength() {
+        EditCost shortLine = measure(SHORT_LINE);
+        EditCost longLine = measure(LONG_LINE);
+
+        logger.info("구간 수정 {} 회 중앙값: {} 구간 {} ms, {} 구간 {} ms",
+                EDITS, SHORT_LINE, shortLine.medianMillis(), LONG_LINE, longLine.medianMillis());
+        assertAll(
+                () -> assertThat(longLine.entityLoads).isEqualTo(shortLine.entityLoads),
+                () -> assertThat(longLine.statements).isEqualTo(shortLine.statements),
+                () -> assertThat(shortLine.shiftedSections).isZero(),
+                () -> assertThat(longLine.shiftedSections).isZero()
+        );
+    }
+
+    private EditCost measure(final int size) {
+        List<Station> stations = new ArrayList<>();
+        for (int i = 0; i <= size; i++) {
+            stations.add(stationRepository.save(new Station("역" + i)));
+        }
+        Line line = new Line("노선" + size, "bg-red-500");
+        for (int i = 0; i < size; i++) {
+            line.addSection(new Section(line, stations.get(i), stations.get(i + 1), 10));
+        }
+        lineRepository.save(line);
+        Station middle = stations.get(size / 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        EditCost cost = new EditCost();
+        for (int i = 0; i < EDITS; i++) {
+            Station station = stationRepository.save(new Station("추가역" + size + "-" + i));
+            entityManager.flush();
+            entityManager.clear();
+
+            Map<Long, Integer> before = positionsOf(line);
+            statistics.clear();
+            long start = System.nanoTime();
+            lineService.addSection(line.getId(), new SectionRequest(middle.getId(), station.getId(), 1));
+            lineService.deleteSection(line.getId(), station.getId());
+            entityManager.flush();
+            cost.record(System.nanoTime() - start, statistics);
+            entityManager.clear();
+            cost.recordShifted(before, positionsOf(line));
+        }
+        return cost;
+    }
+
+    private Map<Long, Integer> positionsOf(final Line line) {
+        return entityManager.createQuery("SELECT s.id, s.position FROM Section s WHERE s.line.id = :lineId", Object[].class)
+                .setParameter("lineId", line.getId())
+                .getResultStream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Integer) row[1]));
+    }
+
+    private static class EditCost {
+        private final long[] nanos = new long[EDITS];
+        private int count;
+        private long entityLoads;
+        private long statements;
+        private long shiftedSections;
+
+        private void record(final long elapsed, final Statistics statistics) {
+            nanos[count++] = elapsed;
+            entityLoads += statistics.getEntityLoadCount();
+            statements += statistics.getPrepareStatementCount();
+        }
+
+        /**
+         * 수정 전후 모두 남아 있는 구간 중 position 이 바뀐 구간 수를 더한다.
+         */
+        private void recordShifted(final Map<Long, Integer> before, final Map<Long, Integer> after) {
+            shiftedSections += before.entrySet().stream()
+                    .filter(entry -> after.containsKey(entry.getKey()))
+                    .filter(entry -> !entry.getValue().equals(after.get(entry.getKey())))
+                    .count();
+        }
+
+        private double medianMillis() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted[count / 2] / 1_000_000.0;
+        }
+    }
+}
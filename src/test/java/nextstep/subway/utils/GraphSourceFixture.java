@@ -0,0 +1,78 @@
+package nextstep.subway.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import nextstep.subway.domain.GraphSource;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionTuple;
+import nextstep.subway.domain.Station;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 노선 엔티티의 구간으로 운영 코드와 같은 GraphSource.of 를 거쳐 GraphSource 를 만든다.
+ * 저장하지 않아 id 가 없는 구간에는 음수 임시 id 를 매겨, 이후 구간 변경 이벤트에서도 같은 구간으로 찾게 한다.
+ */
+public class GraphSourceFixture {
+    private static final AtomicLong TEMPORARY_IDS = new AtomicLong();
+
+    private GraphSourceFixture() {
+    }
+
+    public static GraphSource of(final Line... lines) {
+        return of(List.of(lines));
+    }
+
+    public static GraphSource of(final List<Line> lines) {
+        List<SectionTuple> tuples = new ArrayList<>();
+        Map<Long, Station> stations = new LinkedHashMap<>();
+        for (Line line : lines) {
+            for (Section section : line.getSections()) {
+                if (section.getId() == null) {
+                    ReflectionTestUtils.setField(section, "id", TEMPORARY_IDS.decrementAndGet());
+                }
+                tuples.add(new Tuple(section));
+                stations.putIfAbsent(section.getUpStation().getId(), section.getUpStation());
+                stations.putIfAbsent(section.getDownStation().getId(), section.getDownStation());
+            }
+        }
+        return GraphSource.of(tuples.stream(), () -> new ArrayList<>(stations.values()));
+    }
+
+    private static class Tuple implements SectionTuple {
+        private final Long id;
+        private final Long upStationId;
+        private final Long downStationId;
+        private final int distance;
+
+        private Tuple(final Section section) {
+            this.id = section.getId();
+            this.upStationId = section.getUpStation().getId();
+            this.downStationId = section.getDownStation().getId();
+            this.distance = section.getDistance().value();
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getUpStationId() {
+            return upStationId;
+        }
+
+        @Override
+        public Long getDownStationId() {
+            return downStationId;
+        }
+
+        @Override
+        public int getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 하나가 실행한 SQL 수를 Hibernate 통계로 센다. 인수 테스트는 같은 JVM 의 서버를 부르므로 서버 쪽 SQL 이 잡힌다.
+ */
+@Profile("test")
+@Component
+public class QueryCounter implements InitializingBean {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Override
+    public void afterPropertiesSet() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * action 이 실행한 SQL 이 max 개 이하인지 검증하고 action 의 결과를 돌려준다.
+     */
+    public <T> T assertQueryCountAtMost(final long max, final Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("실행한 SQL 수")
+                .isLessThanOrEqualTo(max);
+        return result;
+    }
+}